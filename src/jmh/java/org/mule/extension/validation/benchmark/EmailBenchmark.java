@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.validator.EmailValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating an email address with {@link EmailValidator} and with the commons validator it used to delegate to.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailBenchmark {
+
+  @Param({"first.last@sub.example.com", "first.last@sub.example.notatld", "first last@example.com"})
+  private String email;
+
+  private ValidationContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new ValidationContext(new ValidationMessages(), new ValidationOptions());
+  }
+
+  @Benchmark
+  public ValidationResult emailValidator() {
+    return new EmailValidator(email, context).validate();
+  }
+
+  @Benchmark
+  public boolean commonsEmailValidator() {
+    return email.trim().equals(email) && org.apache.commons.validator.routines.EmailValidator.getInstance().isValid(email);
+  }
+}
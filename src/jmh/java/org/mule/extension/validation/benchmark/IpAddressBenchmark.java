@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
+import org.mule.extension.validation.internal.validator.IpValidator;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the building blocks of the IP validations on their own: parsing an address, matching it against a single entry and
+ * validating its format.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IpAddressBenchmark {
+
+  private static final int ADDRESSES = 4096;
+
+  @Param({"IPV4", "IPV6", "CIDR", "PARTIAL", "MIXED"})
+  private IpEntries entries;
+
+  private final IPAddressFactory factory = new IPAddressFactory();
+  private ValidationContext context;
+  private String[] addresses;
+  private IPAddress[] parsedAddresses;
+  private IPAddress[] ranges;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new ValidationContext(new ValidationMessages(), new ValidationOptions());
+
+    List<String> rangeTexts = entries.entries(ADDRESSES, 1);
+    addresses = entries.addresses(rangeTexts, ADDRESSES, 2);
+    parsedAddresses = new IPAddress[ADDRESSES];
+    ranges = new IPAddress[ADDRESSES];
+    for (int i = 0; i < ADDRESSES; i++) {
+      parsedAddresses[i] = factory.create(addresses[i]);
+      ranges[i] = factory.create(rangeTexts.get(i));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int next;
+
+    int next() {
+      return next++ & (ADDRESSES - 1);
+    }
+  }
+
+  @Benchmark
+  public IPAddress create(Cursor cursor) {
+    return factory.create(addresses[cursor.next()]);
+  }
+
+  @Benchmark
+  public boolean matches(Cursor cursor) {
+    int i = cursor.next();
+    // pairs an address with an entry it was not drawn from, so most of them do not match
+    return parsedAddresses[i].matches(ranges[(i * 31) & (ADDRESSES - 1)]);
+  }
+
+  @Benchmark
+  public ValidationResult isIp(Cursor cursor) {
+    return new IpValidator(addresses[cursor.next()], context).validate();
+  }
+}
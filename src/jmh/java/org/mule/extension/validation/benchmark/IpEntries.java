@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible IP filter entries and the addresses looked up against them.
+ *
+ * @since 3.0
+ */
+public enum IpEntries {
+
+  /**
+   * Plain IPv4 addresses
+   */
+  IPV4 {
+
+    @Override
+    String entry(Random random) {
+      return ipv4(random);
+    }
+
+    @Override
+    String addressIn(String entry, Random random) {
+      return entry;
+    }
+  },
+
+  /**
+   * Plain IPv6 addresses, half of them compressed
+   */
+  IPV6 {
+
+    @Override
+    String entry(Random random) {
+      return ipv6(random);
+    }
+
+    @Override
+    String addressIn(String entry, Random random) {
+      return entry;
+    }
+  },
+
+  /**
+   * IPv4 and IPv6 CIDR ranges
+   */
+  CIDR {
+
+    @Override
+    String entry(Random random) {
+      return random.nextBoolean()
+          ? ipv4(random) + "/" + (8 + random.nextInt(25))
+          : ipv6(random) + "/" + (32 + random.nextInt(97));
+    }
+
+    @Override
+    String addressIn(String entry, Random random) {
+      // the address of the range is in the range
+      return entry.substring(0, entry.indexOf('/'));
+    }
+  },
+
+  /**
+   * Partial IPv4 addresses of one to three octets
+   */
+  PARTIAL {
+
+    @Override
+    String entry(Random random) {
+      StringBuilder entry = new StringBuilder().append(random.nextInt(256));
+      int octets = 1 + random.nextInt(3);
+      for (int i = 1; i < octets; i++) {
+        entry.append('.').append(random.nextInt(256));
+      }
+      return entry.append('.').toString();
+    }
+
+    @Override
+    String addressIn(String entry, Random random) {
+      StringBuilder address = new StringBuilder(entry);
+      int octets = entry.length() - entry.replace(".", "").length();
+      for (int i = octets; i < 4; i++) {
+        address.append(random.nextInt(256));
+        if (i < 3) {
+          address.append('.');
+        }
+      }
+      return address.toString();
+    }
+  },
+
+  /**
+   * An even mix of all the others
+   */
+  MIXED {
+
+    @Override
+    String entry(Random random) {
+      return SINGLE[random.nextInt(SINGLE.length)].entry(random);
+    }
+
+    @Override
+    String addressIn(String entry, Random random) {
+      // the most specific kinds first, anything is an IPv4 entry
+      for (int i = SINGLE.length - 1; i >= 0; i--) {
+        if (SINGLE[i].matches(entry)) {
+          return SINGLE[i].addressIn(entry, random);
+        }
+      }
+      throw new IllegalArgumentException(entry);
+    }
+  };
+
+  private static final IpEntries[] SINGLE = {IPV4, IPV6, CIDR, PARTIAL};
+
+  abstract String entry(Random random);
+
+  abstract String addressIn(String entry, Random random);
+
+  /**
+   * @param count how many entries to generate
+   * @param seed  the seed of the generator, the same seed gives the same entries
+   * @return the entries
+   */
+  public List<String> entries(int count, long seed) {
+    Random random = new Random(seed);
+    List<String> entries = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      entries.add(entry(random));
+    }
+    return entries;
+  }
+
+  /**
+   * Picks addresses to look up, alternating between addresses covered by one of the {@code entries} and random ones of the
+   * same kind, which are most likely not covered
+   *
+   * @param entries the entries of the list
+   * @param count   how many addresses to pick
+   * @param seed    the seed of the generator
+   * @return the addresses
+   */
+  public String[] addresses(List<String> entries, int count, long seed) {
+    Random random = new Random(seed);
+    String[] addresses = new String[count];
+    for (int i = 0; i < count; i++) {
+      String entry = i % 2 == 0 ? entries.get(random.nextInt(entries.size())) : entry(random);
+      addresses[i] = addressIn(entry, random);
+    }
+    return addresses;
+  }
+
+  private boolean matches(String entry) {
+    switch (this) {
+      case PARTIAL:
+        return entry.endsWith(".");
+      case CIDR:
+        return entry.indexOf('/') >= 0;
+      case IPV6:
+        return entry.indexOf(':') >= 0;
+      default:
+        return true;
+    }
+  }
+
+  private static String ipv4(Random random) {
+    return format("%d.%d.%d.%d", random.nextInt(256), random.nextInt(256), random.nextInt(256), random.nextInt(256));
+  }
+
+  private static String ipv6(Random random) {
+    if (random.nextBoolean()) {
+      return format("2001:db8:%x::%x", random.nextInt(0x10000), random.nextInt(0x10000));
+    }
+    StringBuilder address = new StringBuilder(Integer.toHexString(random.nextInt(0x10000)));
+    for (int i = 1; i < 8; i++) {
+      address.append(':').append(Integer.toHexString(random.nextInt(0x10000)));
+    }
+    return address.toString();
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static org.mule.extension.validation.internal.validator.IpFilterValidator.CHECK_RANGE_EXCLUSION;
+import static org.mule.extension.validation.internal.validator.IpFilterValidator.CHECK_RANGE_INCLUSION;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.extension.validation.api.IpFilterList;
+import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.validator.IpFilterValidator;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code isAllowedIp} and {@code isNotDeniedIp} as the filter list grows. Half of the addresses looked up are covered
+ * by the list. {@link Mode#SampleTime} reports the latency percentiles, run with {@code -prof gc} for the allocation rate.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IpFilterBenchmark {
+
+  private static final int ADDRESSES = 4096;
+
+  @Param({"1", "100", "10000", "1000000"})
+  private int listSize;
+
+  @Param({"IPV4", "IPV6", "CIDR", "PARTIAL", "MIXED"})
+  private IpEntries entries;
+
+  @Param({"0"})
+  private int decisionCacheSize;
+
+  private IpFilterList list;
+  private ValidationContext context;
+  private String[] addresses;
+
+  @Setup(Level.Trial)
+  public void setUp() throws InitialisationException {
+    List<String> ips = entries.entries(listSize, 1);
+    list = new IpFilterList();
+    list.setIps(ips);
+    list.setDecisionCacheSize(decisionCacheSize);
+    list.initialise();
+
+    context = new ValidationContext(new ValidationMessages(), new ValidationOptions());
+    addresses = entries.addresses(ips, ADDRESSES, 2);
+    for (int i = 0; i < addresses.length; i++) {
+      // as reported by the HTTP listener
+      addresses[i] = "/" + addresses[i] + ":8080";
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    list.dispose();
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int next;
+
+    String next(String[] addresses) {
+      return addresses[next++ & (ADDRESSES - 1)];
+    }
+  }
+
+  @Benchmark
+  public ValidationResult isAllowedIp(Cursor cursor) {
+    return new IpFilterValidator(cursor.next(addresses), list, CHECK_RANGE_INCLUSION, context).validate();
+  }
+
+  @Benchmark
+  public ValidationResult isNotDeniedIp(Cursor cursor) {
+    return new IpFilterValidator(cursor.next(addresses), list, CHECK_RANGE_EXCLUSION, context).validate();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.extension.validation.api.NumberType;
+
+import java.util.Locale;
+
+import org.apache.commons.validator.routines.DoubleValidator;
+import org.apache.commons.validator.routines.LongValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing a number with {@link NumberType#toNumber(String, String, Locale)} and with the commons validators it used
+ * to delegate to. The plain values are parsed without a {@link java.text.DecimalFormat}, the grouped ones with a cached one.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumberBenchmark {
+
+  @Param({"1234567", "-1234.56", "1,234,567", "12a"})
+  private String value;
+
+  private final Locale locale = Locale.ENGLISH;
+
+  @Benchmark
+  public Number longNumberType() {
+    return NumberType.LONG.toNumber(value, null, locale);
+  }
+
+  @Benchmark
+  public Number commonsLongValidator() {
+    return LongValidator.getInstance().validate(value, locale);
+  }
+
+  @Benchmark
+  public Number doubleNumberType() {
+    return NumberType.DOUBLE.toNumber(value, null, locale);
+  }
+
+  @Benchmark
+  public Number commonsDoubleValidator() {
+    return DoubleValidator.getInstance().validate(value, locale);
+  }
+}
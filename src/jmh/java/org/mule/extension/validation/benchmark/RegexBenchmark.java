@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.extension.validation.api.RegexEngine;
+import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.validator.MatchesRegexValidator;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link RegexEngine}s running {@code matchesRegex} on typical expressions, and on one which backtracks
+ * exponentially on {@link java.util.regex}.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexBenchmark {
+
+  public enum Case {
+
+    LITERAL("application/json", "application/json"),
+
+    IDENTIFIER("[A-Z]{3}-\\d{6}", "ABC-123456"),
+
+    PREFIX("^ABC-.*", "ABC-some-longer-identifier"),
+
+    SUFFIX(".*\\.log", "/var/log/application/server.log"),
+
+    EMAIL("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)*\\.[a-z]{2,}", "some.user+tag@mail.example.com"),
+
+    CATASTROPHIC("(.*a){12}", repeat('a', 16) + "!");
+
+    private final String regex;
+    private final String value;
+
+    Case(String regex, String value) {
+      this.regex = regex;
+      this.value = value;
+    }
+
+    private static String repeat(char c, int count) {
+      char[] chars = new char[count];
+      Arrays.fill(chars, c);
+      return new String(chars);
+    }
+  }
+
+  @Param({"JAVA", "LINEAR"})
+  private RegexEngine engine;
+
+  @Param({"LITERAL", "IDENTIFIER", "PREFIX", "SUFFIX", "EMAIL", "CATASTROPHIC"})
+  private Case regexCase;
+
+  private ValidationContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new ValidationContext(new ValidationMessages(), new ValidationOptions());
+  }
+
+  @Benchmark
+  public ValidationResult matchesRegex() {
+    return new MatchesRegexValidator(regexCase.value, regexCase.regex, true, engine, context).validate();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.extension.validation.api.RegexEngine;
+import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.validator.MatchesAnyRegexValidator;
+import org.mule.extension.validation.internal.validator.MatchesRegexValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares classifying a value against a list of expressions with {@code matchesAnyRegex}, and with one {@code matchesRegex}
+ * per expression until one matches, as an {@code any} scope does. The value matches the last expression.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexSetBenchmark {
+
+  @Param({"1", "10", "50"})
+  private int regexCount;
+
+  private List<String> regexes;
+  private String value;
+  private ValidationContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new ValidationContext(new ValidationMessages(), new ValidationOptions());
+    regexes = new ArrayList<>(regexCount);
+    for (int i = 0; i < regexCount; i++) {
+      regexes.add("ID" + i + "-[A-Z]{3}-\\d{6}");
+    }
+    value = "ID" + (regexCount - 1) + "-ABC-123456";
+  }
+
+  @Benchmark
+  public ValidationResult matchesAnyRegex() {
+    return new MatchesAnyRegexValidator(value, regexes, true, context).validate();
+  }
+
+  @Benchmark
+  public ValidationResult matchesRegexJava() {
+    return matchEach(RegexEngine.JAVA);
+  }
+
+  @Benchmark
+  public ValidationResult matchesRegexLinear() {
+    return matchEach(RegexEngine.LINEAR);
+  }
+
+  private ValidationResult matchEach(RegexEngine engine) {
+    ValidationResult result = null;
+    for (String regex : regexes) {
+      result = new MatchesRegexValidator(value, regex, true, engine, context).validate();
+      if (!result.isError()) {
+        break;
+      }
+    }
+    return result;
+  }
+}
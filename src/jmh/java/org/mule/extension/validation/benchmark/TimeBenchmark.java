@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.validator.TimeValidator;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating a time with {@link TimeValidator}, with a cached {@link DateTimeFormatter} which reports invalid times
+ * through an exception, and with a {@link DateTimeFormatter} compiled on every call, as it used to be. The times cover a valid
+ * one, one which does not match the pattern and one whose fields are out of range.
+ *
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeBenchmark {
+
+  private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+  @Param({"2024-02-29T13:45:00", "2024-02-29 13:45:00", "2024-02-29T25:45:00"})
+  private String time;
+
+  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN).withLocale(new Locale("en"));
+
+  private ValidationContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new ValidationContext(new ValidationMessages(), new ValidationOptions());
+  }
+
+  @Benchmark
+  public ValidationResult timeValidator() {
+    return new TimeValidator(time, "en", PATTERN, context).validate();
+  }
+
+  @Benchmark
+  public boolean cachedFormatter() {
+    try {
+      FORMATTER.parse(time);
+      return true;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean uncachedFormatter() {
+    try {
+      DateTimeFormatter.ofPattern(PATTERN).withLocale(new Locale("en")).parse(time);
+      return true;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+}
@@ -6,30 +6,140 @@
  */
 package org.mule.extension.validation.api;
 
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 
+import org.mule.extension.validation.internal.FilePaths;
+import org.mule.extension.validation.internal.ip.IpDecisionCache;
+import org.mule.extension.validation.internal.ip.IpFilter;
+import org.mule.extension.validation.internal.ip.IpFilterReloader;
+import org.mule.extension.validation.internal.ip.IpRangeFile;
+import org.mule.extension.validation.internal.ip.IpRangeIndex;
 import org.mule.extension.validation.internal.ip.address.IPAddress;
 import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.extension.api.annotation.dsl.xml.TypeDsl;
+import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.Parameter;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * List of IPs for filter configuration.
+ * <p/>
+ * The entries are either given inline through {@link #getIps()} or read from a local {@link #getFile()}, and are compiled into
+ * an {@link IpFilter} when the element is initialised, so that checking an address does not depend on the size of the list
+ * and malformed entries fail the deployment.
+ * Entries read from a file can be reloaded periodically, see {@link #getReloadInterval()}.
  *
  * @since 1.1
  */
 @TypeDsl(allowTopLevelDefinition = true)
-public class IpFilterList {
+public class IpFilterList implements Initialisable, Disposable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IpFilterList.class);
 
   private IPAddressFactory factory = new IPAddressFactory();
 
   @Parameter
+  @Optional
   private List<String> ips;
 
+  /**
+   * Path to a local file with the entries, as an alternative to {@link #ips}. Relative paths which do not exist are looked up
+   * in the classpath of the application. It can either be a text file with one entry per line, where blank lines and lines
+   * starting with {@code #} are ignored, or a binary range file written by {@link IpRangeFiles}, which is memory mapped instead
+   * of loaded and suits lists with millions of ranges.
+   */
+  @Parameter
+  @Optional
+  private String file;
+
+  /**
+   * How often the {@link #file} is checked for changes. When its modification time or size changes the entries are rebuilt in
+   * the background and replace the previous ones at once, validations in progress keep using the entries they started with.
+   * The file should be replaced by moving a new one over it rather than rewritten in place. {@code 0} disables reloading.
+   * The files of all the lists are checked by a single shared thread.
+   */
+  @Parameter
+  @Optional(defaultValue = "0")
+  private long reloadInterval;
+
+  /**
+   * The {@link TimeUnit} of the {@link #reloadInterval}
+   */
+  @Parameter
+  @Optional(defaultValue = "SECONDS")
+  private TimeUnit reloadIntervalUnit = SECONDS;
+
+  /**
+   * How many addresses to remember the answer for, so that clients which come back often skip the lookup in the list. The
+   * answers are forgotten whenever the entries change. {@code 0} disables the cache.
+   */
+  @Parameter
+  @Optional(defaultValue = "0")
+  private int decisionCacheSize;
+
+  private volatile IpFilter index;
+  private volatile long lastReloadDuration;
+  private volatile long reloadCount;
+  private FileTime fileLastModified;
+  private long fileSize;
+  private ScheduledFuture<?> reloader;
+  private volatile IpDecisionCache decisionCache;
+
   public IpFilterList() {}
 
+  @Override
+  public void initialise() throws InitialisationException {
+    if ((ips == null) == (file == null)) {
+      throw new InitialisationException(createStaticMessage("Exactly one of 'ips' or 'file' must be configured"), this);
+    }
+    if (decisionCacheSize < 0) {
+      throw new InitialisationException(createStaticMessage("'decisionCacheSize' cannot be negative"), this);
+    }
+    if (reloadInterval > 0 && file == null) {
+      throw new InitialisationException(createStaticMessage("'reloadInterval' can only be used together with 'file'"), this);
+    }
+
+    try {
+      getIndex();
+    } catch (IllegalArgumentException e) {
+      throw new InitialisationException(createStaticMessage(e.getMessage()), e, this);
+    } catch (MuleRuntimeException e) {
+      throw new InitialisationException(e, this);
+    }
+
+    if (reloadInterval > 0 && reloader == null) {
+      reloader = IpFilterReloader.schedule(this::reloadIfModified, reloadInterval, reloadIntervalUnit);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (reloader != null) {
+      IpFilterReloader.cancel(reloader);
+      reloader = null;
+    }
+  }
+
   public List<String> getIps() {
     return ips;
   }
@@ -40,14 +150,175 @@ public class IpFilterList {
 
   public void setFactory(IPAddressFactory factory) {
     this.factory = factory;
+    this.index = null;
   }
 
   public void setIps(List<String> ips) {
     this.ips = ips;
+    this.index = null;
+  }
+
+  public String getFile() {
+    return file;
+  }
+
+  public void setFile(String file) {
+    this.file = file;
+    this.index = null;
   }
 
+  public long getReloadInterval() {
+    return reloadInterval;
+  }
+
+  public void setReloadInterval(long reloadInterval) {
+    this.reloadInterval = reloadInterval;
+  }
+
+  public TimeUnit getReloadIntervalUnit() {
+    return reloadIntervalUnit;
+  }
+
+  public void setReloadIntervalUnit(TimeUnit reloadIntervalUnit) {
+    this.reloadIntervalUnit = reloadIntervalUnit;
+  }
+
+  public int getDecisionCacheSize() {
+    return decisionCacheSize;
+  }
+
+  public void setDecisionCacheSize(int decisionCacheSize) {
+    this.decisionCacheSize = decisionCacheSize;
+    this.decisionCache = null;
+    this.index = null;
+  }
+
+  /**
+   * @return how many lookups were answered by the decision cache, {@code 0} if it is disabled
+   */
+  public long getDecisionCacheHits() {
+    IpDecisionCache cache = decisionCache;
+    return cache != null ? cache.getHits() : 0;
+  }
+
+  /**
+   * @return how many lookups missed the decision cache, {@code 0} if it is disabled
+   */
+  public long getDecisionCacheMisses() {
+    IpDecisionCache cache = decisionCache;
+    return cache != null ? cache.getMisses() : 0;
+  }
+
+  /**
+   * @return the number of entries currently in use
+   */
+  public int getEntryCount() {
+    return getIndex().size();
+  }
+
+  /**
+   * @return how long, in milliseconds, it took to build the entries currently in use
+   */
+  public long getLastReloadDuration() {
+    return lastReloadDuration;
+  }
+
+  /**
+   * @return how many times the entries were rebuilt because the {@link #getFile()} changed
+   */
+  public long getReloadCount() {
+    return reloadCount;
+  }
+
+  /**
+   * Returns the compiled form of {@link #getIps()} or {@link #getFile()}, building it the first time it is requested.
+   *
+   * @return an {@link IpFilter}
+   * @throws MuleRuntimeException     if the {@link #getFile()} cannot be read
+   * @throws IllegalArgumentException if any of the entries is malformed
+   */
+  public IpFilter getIndex() {
+    IpFilter current = index;
+    if (current == null) {
+      synchronized (this) {
+        current = index;
+        if (current == null) {
+          current = build();
+          index = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Parses the inline {@link #getIps()}. The {@link #getFile()} is ignored, so the list is empty when the entries come from a
+   * file.
+   *
+   * @return the addresses of the inline entries, or an empty list if there are none
+   * @deprecated use {@link #getIndex()}, which holds the entries of either {@link #getIps()} or {@link #getFile()}
+   */
+  @Deprecated
   public List<IPAddress> ipAddresses() {
-    return ips.stream().map(factory::create).collect(toList());
+    return ips != null ? ips.stream().map(factory::create).collect(toList()) : emptyList();
+  }
+
+  private IpFilter build() {
+    long start = nanoTime();
+    IpFilter filter;
+    if (file != null) {
+      Path path = FilePaths.resolve(file);
+      recordFileState(path);
+      filter = load(path);
+    } else {
+      filter = IpRangeIndex.compile(ips);
+    }
+    lastReloadDuration = NANOSECONDS.toMillis(nanoTime() - start);
+    return decisionCacheSize > 0 ? decisionCache().wrap(filter) : filter;
+  }
+
+  private synchronized IpDecisionCache decisionCache() {
+    if (decisionCache == null) {
+      decisionCache = new IpDecisionCache(decisionCacheSize);
+    }
+    return decisionCache;
+  }
+
+  private void reloadIfModified() {
+    Path path = FilePaths.resolve(file);
+    try {
+      if (Files.getLastModifiedTime(path).equals(fileLastModified) && Files.size(path) == fileSize) {
+        return;
+      }
+      IpFilter filter = build();
+      index = filter;
+      reloadCount++;
+      LOGGER.info("Reloaded IP filter list file '{}' with {} entries in {} ms", path, filter.size(), lastReloadDuration);
+    } catch (Exception e) {
+      LOGGER.warn("Could not reload IP filter list file '{}', the previous entries are kept", path, e);
+    }
+  }
+
+  private void recordFileState(Path path) {
+    try {
+      // taken before reading so that a change made while loading is picked up by the next check
+      fileLastModified = Files.getLastModifiedTime(path);
+      fileSize = Files.size(path);
+    } catch (IOException e) {
+      fileLastModified = null;
+      fileSize = -1;
+    }
+  }
+
+  private IpFilter load(Path path) {
+    try {
+      if (IpRangeFile.isRangeFile(path)) {
+        return IpRangeFile.open(path);
+      }
+      return IpRangeIndex.compile(IpRangeFiles.readEntries(path));
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage(format("Could not read the IP filter list file '%s'", path)), e);
+    }
   }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.mule.extension.validation.internal.ip.IpRangeFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the binary range files which an {@link IpFilterList} can memory map instead of loading, see
+ * {@link IpFilterList#getFile()}. Files can be written from an application through {@link #write(Iterable, Path)} or
+ * {@link #convert(Path, Path)}, or from the command line, turning a text list into a range file:
+ *
+ * <pre>
+ * java -cp mule-validation-module.jar org.mule.extension.validation.api.IpRangeFiles deny-list.txt deny-list.bin
+ * </pre>
+ *
+ * <h3>Format, version {@value #FORMAT_VERSION}</h3>
+ * All the values are big endian. The file starts with a 16 bytes header:
+ * <ul>
+ * <li>bytes 0-3, the magic number {@code 0x4D495052}, that is {@code MIPR} in ASCII</li>
+ * <li>bytes 4-7, the format version, {@value #FORMAT_VERSION}</li>
+ * <li>bytes 8-11, the number of IPv4 ranges, {@code n4}</li>
+ * <li>bytes 12-15, the number of IPv6 ranges, {@code n6}</li>
+ * </ul>
+ * It is followed by {@code n4} IPv4 ranges of 8 bytes each, the first and the last address of the range as unsigned 32 bit
+ * integers, and then by {@code n6} IPv6 ranges of 32 bytes each, the first and the last address of the range as unsigned 128 bit
+ * integers. The size of the file is therefore exactly {@code 16 + 8 * n4 + 32 * n6} bytes. Within each family the ranges are
+ * sorted by their first address, do not overlap and are not adjacent. IPv4 mapped IPv6 addresses are stored as IPv4 ones.
+ * <p/>
+ * A change to this layout comes with a new version, and files with a version the module does not know are rejected when the
+ * list is initialised.
+ *
+ * @since 3.0
+ */
+public final class IpRangeFiles {
+
+  /**
+   * The version of the format written by this class
+   */
+  public static final int FORMAT_VERSION = 1;
+
+  private IpRangeFiles() {}
+
+  /**
+   * Writes a range file with the given entries. Overlapping and adjacent ranges are merged.
+   *
+   * @param ranges addresses or CIDR ranges
+   * @param path   the file to write, replaced if it exists
+   * @throws IOException              if the file cannot be written
+   * @throws IllegalArgumentException if any of the {@code ranges} is not an address or a CIDR range
+   */
+  public static void write(Iterable<String> ranges, Path path) throws IOException {
+    IpRangeFile.write(ranges, path);
+  }
+
+  /**
+   * Writes a range file with the entries of a text list, as accepted by {@link IpFilterList#getFile()}
+   *
+   * @param textFile  a text file with one entry per line, where blank lines and lines starting with {@code #} are ignored
+   * @param rangeFile the file to write, replaced if it exists
+   * @throws IOException              if a file cannot be read or written
+   * @throws IllegalArgumentException if any of the entries is not an address or a CIDR range
+   */
+  public static void convert(Path textFile, Path rangeFile) throws IOException {
+    write(readEntries(textFile), rangeFile);
+  }
+
+  /**
+   * Converts the text list given as first argument into the range file given as second argument
+   *
+   * @param args the paths of the text list and of the range file
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: java " + IpRangeFiles.class.getName() + " <text list> <range file>");
+      System.exit(2);
+    }
+    convert(Paths.get(args[0]), Paths.get(args[1]));
+  }
+
+  static List<String> readEntries(Path path) throws IOException {
+    List<String> entries = new ArrayList<>();
+    try (BufferedReader reader = Files.newBufferedReader(path, UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          entries.add(line);
+        }
+      }
+    }
+    return entries;
+  }
+}
@@ -6,16 +6,25 @@
  */
 package org.mule.extension.validation.api;
 
-import java.util.Locale;
+import static org.mule.extension.validation.internal.number.AsciiNumberParser.UNDECIDED;
+import static org.mule.extension.validation.internal.number.AsciiNumberParser.VALID;
+
+import org.mule.extension.validation.internal.number.AsciiNumberParser;
+import org.mule.extension.validation.internal.number.BigNumberParser;
+import org.mule.extension.validation.internal.number.NumberFormatCache;
 
-import org.apache.commons.validator.routines.DoubleValidator;
-import org.apache.commons.validator.routines.FloatValidator;
-import org.apache.commons.validator.routines.IntegerValidator;
-import org.apache.commons.validator.routines.LongValidator;
-import org.apache.commons.validator.routines.ShortValidator;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
 
 /**
  * Defines types of {@link Number}s against which validations can be performed
+ * <p/>
+ * Values are parsed as the commons validators of each type do, with formats taken from the {@link NumberFormatCache}. Plain
+ * decimal values without a pattern are parsed by an {@link AsciiNumberParser} instead, with the same results.
+ * <p/>
+ * {@link #BIG_DECIMAL} and {@link #BIG_INTEGER} values are parsed exactly by a {@link BigNumberParser}, into {@link BigDecimal}
+ * and {@link BigInteger} respectively.
  *
  * @since 1.0
  */
@@ -25,40 +34,91 @@ public enum NumberType {
 
     @Override
     public Number toNumber(String value, String pattern, Locale locale) {
-      return pattern != null ? IntegerValidator.getInstance().validate(value, pattern, locale)
-          : IntegerValidator.getInstance().validate(value, locale);
+      if (pattern == null) {
+        AsciiNumberParser parser = new AsciiNumberParser();
+        int decision = parser.parseInteger(value, locale, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (decision != UNDECIDED) {
+          return decision == VALID ? Integer.valueOf((int) parser.getInteger()) : null;
+        }
+      }
+      return pattern != null ? NumberFormatCache.INTEGER.validate(value, pattern, locale)
+          : NumberFormatCache.INTEGER.validate(value, locale);
     }
   },
   LONG {
 
     @Override
     public Number toNumber(String value, String pattern, Locale locale) {
-      return pattern != null ? LongValidator.getInstance().validate(value, pattern, locale)
-          : LongValidator.getInstance().validate(value, locale);
+      if (pattern == null) {
+        AsciiNumberParser parser = new AsciiNumberParser();
+        int decision = parser.parseInteger(value, locale, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (decision != UNDECIDED) {
+          return decision == VALID ? Long.valueOf(parser.getInteger()) : null;
+        }
+      }
+      return pattern != null ? NumberFormatCache.LONG.validate(value, pattern, locale)
+          : NumberFormatCache.LONG.validate(value, locale);
     }
   },
   SHORT {
 
     @Override
     public Number toNumber(String value, String pattern, Locale locale) {
-      return pattern != null ? ShortValidator.getInstance().validate(value, pattern, locale)
-          : ShortValidator.getInstance().validate(value, locale);
+      if (pattern == null) {
+        AsciiNumberParser parser = new AsciiNumberParser();
+        int decision = parser.parseInteger(value, locale, Short.MIN_VALUE, Short.MAX_VALUE);
+        if (decision != UNDECIDED) {
+          return decision == VALID ? Short.valueOf((short) parser.getInteger()) : null;
+        }
+      }
+      return pattern != null ? NumberFormatCache.SHORT.validate(value, pattern, locale)
+          : NumberFormatCache.SHORT.validate(value, locale);
     }
   },
   DOUBLE {
 
     @Override
     public Number toNumber(String value, String pattern, Locale locale) {
-      return pattern != null ? DoubleValidator.getInstance().validate(value, pattern, locale)
-          : DoubleValidator.getInstance().validate(value, locale);
+      if (pattern == null) {
+        AsciiNumberParser parser = new AsciiNumberParser();
+        int decision = parser.parseDecimal(value, locale);
+        if (decision != UNDECIDED) {
+          return decision == VALID ? Double.valueOf(parser.getDecimal()) : null;
+        }
+      }
+      return pattern != null ? NumberFormatCache.DOUBLE.validate(value, pattern, locale)
+          : NumberFormatCache.DOUBLE.validate(value, locale);
     }
   },
   FLOAT {
 
     @Override
     public Number toNumber(String value, String pattern, Locale locale) {
-      return pattern != null ? FloatValidator.getInstance().validate(value, pattern, locale)
-          : FloatValidator.getInstance().validate(value, locale);
+      if (pattern == null) {
+        AsciiNumberParser parser = new AsciiNumberParser();
+        int decision = parser.parseDecimal(value, locale);
+        if (decision != UNDECIDED) {
+          return decision == VALID ? toFloat(parser.getDecimal()) : null;
+        }
+      }
+      return pattern != null ? NumberFormatCache.FLOAT.validate(value, pattern, locale)
+          : NumberFormatCache.FLOAT.validate(value, locale);
+    }
+  },
+  BIG_DECIMAL {
+
+    @Override
+    public Number toNumber(String value, String pattern, Locale locale) {
+      BigNumberParser parser = new BigNumberParser(this);
+      return parser.parse(value, pattern, locale, null, null) == BigNumberParser.VALID ? parser.getValue() : null;
+    }
+  },
+  BIG_INTEGER {
+
+    @Override
+    public Number toNumber(String value, String pattern, Locale locale) {
+      BigNumberParser parser = new BigNumberParser(this);
+      return parser.parse(value, pattern, locale, null, null) == BigNumberParser.VALID ? parser.getValue() : null;
     }
   };
 
@@ -71,4 +131,16 @@ public enum NumberType {
    * @return a {@link Number}
    */
   public abstract Number toNumber(String value, String pattern, Locale locale);
+
+  /**
+   * @return {@code value} as a {@link Float}, or {@code null} if it is out of its range, as
+   *         {@link org.apache.commons.validator.routines.FloatValidator} tells
+   */
+  private static Float toFloat(double value) {
+    double magnitude = Math.abs(value);
+    if (magnitude != 0 && (magnitude < Float.MIN_VALUE || magnitude > Float.MAX_VALUE)) {
+      return null;
+    }
+    return Float.valueOf((float) value);
+  }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.api;
+
+/**
+ * The engines which can run the regular expressions of the validations
+ *
+ * @since 3.0
+ */
+public enum RegexEngine {
+
+  /**
+   * {@link java.util.regex}, which supports the whole syntax but backtracks, so that some expressions take exponential time on
+   * some inputs, such as {@code (a+)+$} on a long run of {@code a}s followed by another character
+   */
+  JAVA,
+
+  /**
+   * An automaton which takes linear time on any input. Expressions using constructs it does not support, such as back
+   * references, look arounds, possessive quantifiers, inline flags or Unicode properties, run on {@link #JAVA} instead, and a
+   * warning is logged when they are compiled.
+   */
+  LINEAR
+}
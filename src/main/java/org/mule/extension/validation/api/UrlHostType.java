@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.api;
+
+/**
+ * The kinds of host a URL validation can require
+ *
+ * @since 3.0
+ */
+public enum UrlHostType {
+
+  /**
+   * Any host, or none
+   */
+  ANY,
+
+  /**
+   * A domain name whose top level domain is known, such as {@code www.mulesoft.com}
+   */
+  DOMAIN,
+
+  /**
+   * An IPv4 address, or an IPv6 address in brackets, such as {@code 127.0.0.1} or {@code [::1]}
+   */
+  IP
+}
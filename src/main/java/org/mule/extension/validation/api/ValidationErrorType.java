@@ -48,6 +48,11 @@ public enum ValidationErrorType implements ErrorTypeDefinition<ValidationErrorTy
 
   MISMATCH(VALIDATION),
 
+  /**
+   * Indicates that a regular expression could not be matched within its step budget
+   */
+  REGEX_BUDGET_EXCEEDED(VALIDATION),
+
   INVALID_NUMBER(VALIDATION),
 
   INVALID_SIZE(VALIDATION),
@@ -6,14 +6,21 @@
  */
 package org.mule.extension.validation.api;
 
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import static java.lang.String.format;
+
 import org.mule.extension.validation.internal.CommonValidationOperations;
+import org.mule.extension.validation.internal.FilePaths;
 import org.mule.extension.validation.internal.NumberValidationOperation;
 import org.mule.extension.validation.internal.ValidationMessages;
 import org.mule.extension.validation.internal.ValidationStrategies;
+import org.mule.extension.validation.internal.domain.TopLevelDomains;
 import org.mule.extension.validation.internal.el.ValidationFunctions;
 import org.mule.extension.validation.internal.error.BasicValidationErrorType;
 import org.mule.extension.validation.internal.privileged.AllOperationEnricher;
 import org.mule.extension.validation.internal.privileged.AnyOperationEnricher;
+import org.mule.extension.validation.internal.regex.RegexCache;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.meta.NamedObject;
@@ -31,6 +38,8 @@ import org.mule.runtime.extension.api.annotation.privileged.DeclarationEnrichers
 import org.mule.sdk.api.annotation.JavaVersionSupport;
 import org.mule.sdk.api.meta.JavaVersion;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Locale;
 
 import javax.inject.Inject;
@@ -45,7 +54,7 @@ import javax.inject.Inject;
 @Extension(name = "Validation")
 @Operations({CommonValidationOperations.class, ValidationStrategies.class,
     NumberValidationOperation.class})
-@Export(resources = {"/META-INF/org/mule/runtime/core/i18n/validation-messages.properties"})
+@Export(classes = {IpRangeFiles.class}, resources = {"/META-INF/org/mule/runtime/core/i18n/validation-messages.properties"})
 @ErrorTypes(ValidationErrorType.class)
 @ExpressionFunctions(ValidationFunctions.class)
 @Throws(BasicValidationErrorType.class)
@@ -71,13 +80,68 @@ public class ValidationExtension implements Config, NamedObject, Initialisable {
   @Optional
   private I18NConfig i18n;
 
+  /**
+   * How many compiled regular expressions to keep, so that the ones used repeatedly are not compiled on every validation. The
+   * cache is shared by all the configurations, which get the largest of their sizes. Its statistics are available through
+   * {@link #getRegexCacheHits()}, {@link #getRegexCacheMisses()} and {@link #getRegexCacheEvictions()}.
+   */
+  @Parameter
+  @Optional(defaultValue = "256")
+  private int regexCacheSize = RegexCache.DEFAULT_CAPACITY;
+
+  /**
+   * The {@link RegexEngine} to run the regular expressions on, when the validation does not set one
+   */
+  @Parameter
+  @Optional(defaultValue = "JAVA")
+  private RegexEngine regexEngine = RegexEngine.JAVA;
+
+  /**
+   * How many steps the {@link RegexEngine#JAVA} engine can take to match a value, when the validation does not set it. A
+   * value which would take more fails the validation with {@link ValidationErrorType#REGEX_BUDGET_EXCEEDED}, so that an
+   * expression which backtracks costs a bounded amount of time. {@code 0} means no limit.
+   */
+  @Parameter
+  @Optional(defaultValue = "0")
+  private long maxRegexSteps = 0;
+
+  /**
+   * Path to a local copy of the IANA list of top level domains, {@code tlds-alpha-by-domain.txt}, whose domains are accepted
+   * on top of the ones the module was released with by the email validation and by the URL validation with a
+   * {@link UrlHostType#DOMAIN} host type. Only the validations which use this configuration accept them. Relative paths which do not exist are looked up in the classpath of the application. The file is read
+   * whenever the configuration is initialised.
+   */
+  @Parameter
+  @Optional
+  private String tldFile;
+
+  private TopLevelDomains topLevelDomains = TopLevelDomains.builtIn();
+
   public ValidationExtension() {}
 
   @Override
   public void initialise() throws InitialisationException {
+    if (regexCacheSize < 0) {
+      throw new InitialisationException(createStaticMessage("'regexCacheSize' cannot be negative"), this);
+    }
+    if (maxRegexSteps < 0) {
+      throw new InitialisationException(createStaticMessage("'maxRegexSteps' cannot be negative"), this);
+    }
+    RegexCache.shared().ensureCapacity(regexCacheSize);
+    topLevelDomains = tldFile != null ? loadTopLevelDomains() : TopLevelDomains.builtIn();
     initialiseMessageFactory();
   }
 
+  private TopLevelDomains loadTopLevelDomains() throws InitialisationException {
+    Path path = FilePaths.resolve(tldFile);
+    try {
+      return TopLevelDomains.builtIn().plus(TopLevelDomains.read(path));
+    } catch (IOException | IllegalArgumentException e) {
+      throw new InitialisationException(createStaticMessage(format("Could not read the top level domains file '%s'", path)),
+                                        e, this);
+    }
+  }
+
   private void initialiseMessageFactory() {
     if (i18n == null) {
       messageFactory = new ValidationMessages();
@@ -110,4 +174,65 @@ public class ValidationExtension implements Config, NamedObject, Initialisable {
   public void setMessageFactory(ValidationMessages messageFactory) {
     this.messageFactory = messageFactory;
   }
+
+  public int getRegexCacheSize() {
+    return regexCacheSize;
+  }
+
+  public void setRegexCacheSize(int regexCacheSize) {
+    this.regexCacheSize = regexCacheSize;
+  }
+
+  /**
+   * @return how many regular expressions were taken from the cache instead of compiled, by all the configurations
+   */
+  public long getRegexCacheHits() {
+    return RegexCache.shared().stats().hitCount();
+  }
+
+  /**
+   * @return how many regular expressions were compiled because they were not in the cache, by all the configurations
+   */
+  public long getRegexCacheMisses() {
+    return RegexCache.shared().stats().missCount();
+  }
+
+  /**
+   * @return how many compiled regular expressions were evicted from the cache because it was full
+   */
+  public long getRegexCacheEvictions() {
+    return RegexCache.shared().stats().evictionCount();
+  }
+
+  public RegexEngine getRegexEngine() {
+    return regexEngine;
+  }
+
+  public void setRegexEngine(RegexEngine regexEngine) {
+    this.regexEngine = regexEngine;
+  }
+
+  public long getMaxRegexSteps() {
+    return maxRegexSteps;
+  }
+
+  public void setMaxRegexSteps(long maxRegexSteps) {
+    this.maxRegexSteps = maxRegexSteps;
+  }
+
+  public String getTldFile() {
+    return tldFile;
+  }
+
+  public void setTldFile(String tldFile) {
+    this.tldFile = tldFile;
+  }
+
+  /**
+   * @return the top level domains the validations which use this configuration accept, including the ones of the
+   *         {@link #getTldFile()} once initialised
+   */
+  public TopLevelDomains getTopLevelDomains() {
+    return topLevelDomains;
+  }
 }
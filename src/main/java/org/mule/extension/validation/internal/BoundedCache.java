@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A thread safe cache of the values the validations build from their parameters, such as compiled patterns or formats, keyed
+ * on the parameters the value is built from, which are given to a loader as a {@link Key}.
+ * <p/>
+ * These parameters usually are constants of the application, so building each value once instead of on every validation saves
+ * most of the cost of using it. The least recently used values are evicted when the cache is full.
+ *
+ * @param <V> the type of the values
+ * @since 3.0
+ */
+public final class BoundedCache<V> {
+
+  private final LoadingCache<Key, V> cache;
+  private final Function<Key, ? extends V> loader;
+  private final int capacity;
+  private final CacheStats previousStats;
+
+  /**
+   * @param capacity the maximum number of values to keep
+   * @param loader   builds the value of a {@link Key} which is not cached, and can throw unchecked exceptions, which are
+   *                 rethrown to the caller as they are
+   * @throws IllegalArgumentException if {@code capacity} is negative
+   */
+  public BoundedCache(int capacity, Function<Key, ? extends V> loader) {
+    this(capacity, loader, new CacheStats(0, 0, 0, 0, 0, 0));
+  }
+
+  private BoundedCache(int capacity, Function<Key, ? extends V> loader, CacheStats previousStats) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity cannot be negative, but was " + capacity);
+    }
+    this.cache = CacheBuilder.newBuilder().maximumSize(capacity).recordStats().build(CacheLoader.from(loader::apply));
+    this.loader = loader;
+    this.capacity = capacity;
+    this.previousStats = previousStats;
+  }
+
+  /**
+   * Returns the value for the given parameters, loading it if it is not cached. A {@code null} value is returned but not
+   * cached. The parameters are compared with {@link Object#equals(Object)}.
+   *
+   * @param first the parameter the value is built from
+   * @return the value
+   */
+  public V get(Object first) {
+    return get(new Key(first, null, null, null));
+  }
+
+  /**
+   * As {@link #get(Object)}, for a value built from two parameters
+   */
+  public V get(Object first, Object second) {
+    return get(new Key(first, second, null, null));
+  }
+
+  /**
+   * As {@link #get(Object)}, for a value built from three parameters
+   */
+  public V get(Object first, Object second, Object third) {
+    return get(new Key(first, second, third, null));
+  }
+
+  /**
+   * As {@link #get(Object)}, for a value built from four parameters
+   */
+  public V get(Object first, Object second, Object third, Object fourth) {
+    return get(new Key(first, second, third, fourth));
+  }
+
+  private V get(Key key) {
+    try {
+      return cache.getUnchecked(key);
+    } catch (InvalidCacheLoadException e) {
+      return null;
+    } catch (UncheckedExecutionException e) {
+      throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  /**
+   * @return the maximum number of values kept
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * @return the hit, miss and eviction counts since the cache was created, including those of the caches it was copied from
+   */
+  public CacheStats stats() {
+    return previousStats.plus(cache.stats());
+  }
+
+  /**
+   * @param capacity the maximum number of values to keep
+   * @return a new cache of the given {@code capacity}, with the values and the statistics of this one
+   */
+  public BoundedCache<V> withCapacity(int capacity) {
+    BoundedCache<V> copy = new BoundedCache<>(capacity, loader, stats());
+    copy.cache.putAll(cache.asMap());
+    return copy;
+  }
+
+  /**
+   * The parameters a value is built from, in the order they were given to {@code get}
+   */
+  public static final class Key {
+
+    private final Object first;
+    private final Object second;
+    private final Object third;
+    private final Object fourth;
+    private final int hash;
+
+    private Key(Object first, Object second, Object third, Object fourth) {
+      this.first = first;
+      this.second = second;
+      this.third = third;
+      this.fourth = fourth;
+      this.hash = 31 * (31 * (31 * Objects.hashCode(first) + Objects.hashCode(second)) + Objects.hashCode(third))
+          + Objects.hashCode(fourth);
+    }
+
+    /**
+     * @param index the position of the parameter, from {@code 0}
+     * @param <T>   the type of the parameter
+     * @return the parameter
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+      switch (index) {
+        case 0:
+          return (T) first;
+        case 1:
+          return (T) second;
+        case 2:
+          return (T) third;
+        case 3:
+          return (T) fourth;
+        default:
+          throw new IndexOutOfBoundsException("No parameter " + index);
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return hash == that.hash && Objects.equals(first, that.first) && Objects.equals(second, that.second)
+          && Objects.equals(third, that.third) && Objects.equals(fourth, that.fourth);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
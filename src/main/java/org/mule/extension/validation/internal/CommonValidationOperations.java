@@ -11,6 +11,8 @@ import static org.mule.extension.validation.internal.validator.IpFilterValidator
 import static org.mule.extension.validation.internal.validator.IpFilterValidator.CHECK_RANGE_INCLUSION;
 import static org.mule.runtime.extension.api.annotation.param.Optional.PAYLOAD;
 import org.mule.extension.validation.api.IpFilterList;
+import org.mule.extension.validation.api.RegexEngine;
+import org.mule.extension.validation.api.UrlHostType;
 import org.mule.extension.validation.api.ValidationExtension;
 import org.mule.extension.validation.api.ValidationOptions;
 import org.mule.extension.validation.api.Validator;
@@ -37,6 +39,8 @@ import org.mule.extension.validation.internal.validator.EmailValidator;
 import org.mule.extension.validation.internal.validator.EmptyCollectionValidator;
 import org.mule.extension.validation.internal.validator.IpFilterValidator;
 import org.mule.extension.validation.internal.validator.IpValidator;
+import org.mule.extension.validation.internal.validator.MatchesAnyRegexValidator;
+import org.mule.extension.validation.internal.validator.MatchesRegexStreamValidator;
 import org.mule.extension.validation.internal.validator.MatchesRegexValidator;
 import org.mule.extension.validation.internal.validator.NotBlankStringValidator;
 import org.mule.extension.validation.internal.validator.NotElapsedValidator;
@@ -55,8 +59,11 @@ import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
 import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
 import org.mule.runtime.extension.api.runtime.parameter.ParameterResolver;
 
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -319,19 +326,27 @@ public final class CommonValidationOperations extends ValidationSupport {
   }
 
   /**
-   * Validates that {@code url} is a valid one
+   * Validates that {@code url} is a valid one. By default, that is one for which a {@link java.net.URL} can be created. When
+   * {@code strict}, it must instead be a well formed URI as defined by RFC 3986, with no characters left unencoded.
    *
-   * @param url     the URL to validate as a {@link String}
-   * @param options the {@link ValidationOptions}
-   * @param config  the current {@link ValidationExtension} that serves as config
+   * @param url            the URL to validate as a {@link String}
+   * @param allowedSchemes the schemes the {@code url} can have, ignoring case. When not set, any scheme is allowed
+   * @param hostType       the kind of host the {@code url} must have
+   * @param maxLength      the maximum length of the {@code url}. When not set, there is no limit
+   * @param strict         whether the {@code url} must be a well formed RFC 3986 URI
+   * @param options        the {@link ValidationOptions}
+   * @param config         the current {@link ValidationExtension} that serves as config
    */
   @DisplayName("Is URL")
   @Throws(UrlErrorType.class)
-  public void isUrl(@DisplayName("URL") String url, @ParameterGroup(name = ERROR_GROUP) ValidationOptions options,
+  public void isUrl(@DisplayName("URL") String url, @Optional List<String> allowedSchemes,
+                    @Optional(defaultValue = "ANY") UrlHostType hostType, @Optional Integer maxLength,
+                    @Optional(defaultValue = "false") boolean strict,
+                    @ParameterGroup(name = ERROR_GROUP) ValidationOptions options,
                     @Config ValidationExtension config)
       throws Exception {
     ValidationContext context = createContext(options, config);
-    validateWith(new UrlValidator(url, context), context);
+    validateWith(new UrlValidator(url, allowedSchemes, hostType, maxLength, strict, context), context);
   }
 
   /**
@@ -340,16 +355,67 @@ public final class CommonValidationOperations extends ValidationSupport {
    * @param value         the value to check
    * @param regex         the regular expression to check against
    * @param caseSensitive when {@code true} matching is case sensitive, otherwise matching is case in-sensitive
+   * @param engine        the {@link RegexEngine} to run the {@code regex} on. If not set, the one of the {@code config} is used
+   * @param maxSteps      how many steps the {@link RegexEngine#JAVA} engine can take before the validation fails with
+   *                      {@code REGEX_BUDGET_EXCEEDED}, {@code 0} meaning no limit. If not set, the one of the {@code config} is
+   *                      used
    * @param options       the {@link ValidationOptions}
    * @param config        the current {@link ValidationExtension} that serves as config
    */
   @Throws(RegexErrorType.class)
   public void matchesRegex(String value, String regex, @Optional(defaultValue = "true") boolean caseSensitive,
+                           @Optional RegexEngine engine, @Optional Long maxSteps,
                            @ParameterGroup(name = ERROR_GROUP) ValidationOptions options,
                            @Config ValidationExtension config)
       throws Exception {
     ValidationContext context = createContext(options, config);
-    validateWith(new MatchesRegexValidator(value, regex, caseSensitive, context), context);
+    RegexEngine actualEngine = engine != null ? engine : config.getRegexEngine();
+    long actualMaxSteps = maxSteps != null ? maxSteps : config.getMaxRegexSteps();
+    validateWith(new MatchesRegexValidator(value, regex, caseSensitive, actualEngine, actualMaxSteps, context), context);
+  }
+
+  /**
+   * Validates that the streamed {@code value} matches the {@code regex} regular expression, reading it as it is matched, so
+   * that the validation uses the same memory whatever the size of the {@code value}. The {@code value} is decoded with the
+   * charset of its media type or, if it has none, the default encoding of the application. The {@code regex} runs on the
+   * {@link RegexEngine#LINEAR} engine, so expressions it does not support, such as those with backreferences or lookarounds, fail
+   * the operation instead of reading the whole {@code value} into memory.
+   *
+   * @param value         the value to check
+   * @param regex         the regular expression to check against
+   * @param caseSensitive when {@code true} matching is case sensitive, otherwise matching is case in-sensitive
+   * @param options       the {@link ValidationOptions}
+   * @param config        the current {@link ValidationExtension} that serves as config
+   */
+  @Throws(RegexErrorType.class)
+  public void matchesRegexStream(@Optional(defaultValue = PAYLOAD) TypedValue<InputStream> value, String regex,
+                                 @Optional(defaultValue = "true") boolean caseSensitive,
+                                 @ParameterGroup(name = ERROR_GROUP) ValidationOptions options,
+                                 @Config ValidationExtension config)
+      throws Exception {
+    ValidationContext context = createContext(options, config);
+    Charset defaultCharset = Charset.forName(config.getMuleContext().getConfiguration().getDefaultEncoding());
+    validateWith(new MatchesRegexStreamValidator(value, regex, caseSensitive, defaultCharset, context), context);
+  }
+
+  /**
+   * Validates that {@code value} matches at least one of the {@code regexes} regular expressions. The expressions are tested
+   * together, in a single pass over the {@code value}, so that the cost of the validation barely depends on their number.
+   * Those which cannot run on the {@link RegexEngine#LINEAR} engine are tested one by one instead.
+   *
+   * @param value         the value to check
+   * @param regexes       the regular expressions to check against
+   * @param caseSensitive when {@code true} matching is case sensitive, otherwise matching is case in-sensitive
+   * @param options       the {@link ValidationOptions}
+   * @param config        the current {@link ValidationExtension} that serves as config
+   */
+  @Throws(RegexErrorType.class)
+  public void matchesAnyRegex(String value, List<String> regexes, @Optional(defaultValue = "true") boolean caseSensitive,
+                              @ParameterGroup(name = ERROR_GROUP) ValidationOptions options,
+                              @Config ValidationExtension config)
+      throws Exception {
+    ValidationContext context = createContext(options, config);
+    validateWith(new MatchesAnyRegexValidator(value, regexes, caseSensitive, context), context);
   }
 
   /**
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Resolves the paths of the local files the configurations read, such as IP filter lists and top level domain lists.
+ *
+ * @since 3.0
+ */
+public final class FilePaths {
+
+  private FilePaths() {}
+
+  /**
+   * Resolves {@code file} as a path, looking it up in the classpath of the application when it is relative and does not
+   * exist
+   *
+   * @param file the path as configured
+   * @return the path of the file in the classpath if it was found there as a plain file, or else {@code file} as is
+   */
+  public static Path resolve(String file) {
+    Path path = Paths.get(file);
+    if (!path.isAbsolute() && !Files.exists(path)) {
+      URL resource = Thread.currentThread().getContextClassLoader().getResource(file);
+      if (resource != null && "file".equals(resource.getProtocol())) {
+        try {
+          return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+          // fall through and report the path as configured
+        }
+      }
+    }
+    return path;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal;
+
+import java.util.Locale;
+
+/**
+ * A cache of the {@link Locale}s the validations are given by language, so that they are not created on every validation.
+ *
+ * @since 3.0
+ */
+public final class Locales {
+
+  /**
+   * How many locales to keep, in this cache and in the other caches keyed on the locale alone
+   */
+  public static final int CAPACITY = 64;
+
+  private static final BoundedCache<Locale> LOCALES = new BoundedCache<>(CAPACITY, key -> new Locale(key.get(0)));
+
+  private Locales() {}
+
+  /**
+   * @param language a language code, such as {@code en}
+   * @return a {@link Locale} equal to {@code new Locale(language)}
+   */
+  public static Locale forLanguage(String language) {
+    return LOCALES.get(language);
+  }
+}
@@ -28,34 +28,54 @@ import java.util.Locale;
 @org.mule.runtime.extension.api.annotation.param.stereotype.Validator
 public class NumberValidationOperation extends ValidationSupport {
 
+  private static final int BOUNDS_CAPACITY = 256;
+
+  /**
+   * The parsed {@code minValue} and {@code maxValue} bounds, keyed on the {@link NumberType} and the text, in the default locale
+   */
+  private static final BoundedCache<Number> BOUNDS = new BoundedCache<>(BOUNDS_CAPACITY,
+      key -> key.<NumberType>get(0).toNumber(key.get(1), null, Locales.forLanguage(ValidationExtension.DEFAULT_LOCALE)));
+
   /**
    * Receives a numeric {@code value} as a {@link String} and validates that it can be parsed per the rules of a
    * {@code numberType}
    *
-   * @param value      the value to be tested
-   * @param locale     The locale to use for the format. If not provided it defaults to the system {@link Locale}
-   * @param pattern    The pattern used to format the value
-   * @param minValue   If provided, check that the parsed value is greater or equal than this value
-   * @param maxValue   If provided, check that the parsed value is less or equal than this value
-   * @param numberType the type of number to test {@code value} against
-   * @param options    the {@link ValidationOptions}
+   * @param value        the value to be tested
+   * @param locale       The locale to use for the format. If not provided it defaults to the system {@link Locale}
+   * @param pattern      The pattern used to format the value
+   * @param minValue     If provided, check that the parsed value is greater or equal than this value
+   * @param maxValue     If provided, check that the parsed value is less or equal than this value
+   * @param numberType   the type of number to test {@code value} against
+   * @param maxScale     If provided, check that a {@link NumberType#BIG_DECIMAL} value has at most this many digits after
+   *                     its decimal separator. Ignored by the other types
+   * @param maxPrecision If provided, check that a {@link NumberType#BIG_DECIMAL} or {@link NumberType#BIG_INTEGER} value has
+   *                     at most this many significant digits. Ignored by the other types
+   * @param options      the {@link ValidationOptions}
    */
   @Throws(NumberErrorType.class)
   public void isNumber(String value, @Optional String locale, @Optional String pattern,
                        @Optional String minValue,
                        @Optional String maxValue, NumberType numberType,
+                       @Optional Integer maxScale, @Optional Integer maxPrecision,
                        @ParameterGroup(name = ERROR_GROUP) ValidationOptions options,
                        @Config ValidationExtension config)
       throws Exception {
 
     ValidationContext context = createContext(options, config);
     Validator validator = new NumberValidator(value, parseLocale(locale), pattern, parseNumber(minValue, numberType),
-                                              parseNumber(maxValue, numberType), numberType, context);
+                                              parseNumber(maxValue, numberType), numberType, maxScale, maxPrecision,
+                                              context);
 
     validateWith(validator, context);
   }
 
+  /**
+   * Parses a {@code minValue} or {@code maxValue} bound, through the {@link #BOUNDS}
+   */
   private Number parseNumber(String value, NumberType numberType) {
-    return StringUtils.isBlank(value) ? null : numberType.toNumber(value, null, parseLocale(null));
+    if (StringUtils.isBlank(value)) {
+      return null;
+    }
+    return BOUNDS.get(numberType, value);
   }
 }
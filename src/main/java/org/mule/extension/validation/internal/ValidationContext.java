@@ -8,6 +8,7 @@ package org.mule.extension.validation.internal;
 
 import org.mule.extension.validation.api.ValidationExtension;
 import org.mule.extension.validation.api.ValidationOptions;
+import org.mule.extension.validation.internal.domain.TopLevelDomains;
 
 /**
  * A context object to gather different components that are necessary for performing a validation
@@ -61,4 +62,14 @@ public final class ValidationContext {
   public ValidationExtension getConfig() {
     return config;
   }
+
+  /**
+   * Returns the top level domains the validations of domain names accept, which are the ones of the {@link #getConfig()} or
+   * the built in ones when there is none
+   *
+   * @return a {@link TopLevelDomains}
+   */
+  public TopLevelDomains getTopLevelDomains() {
+    return config != null ? config.getTopLevelDomains() : TopLevelDomains.builtIn();
+  }
 }
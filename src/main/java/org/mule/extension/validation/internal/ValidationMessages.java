@@ -16,6 +16,7 @@ import org.mule.runtime.core.api.util.StringUtils;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 
@@ -269,6 +270,63 @@ public final class ValidationMessages extends I18nMessageFactory {
     return createMessage(bundlePath, 17, value, regex);
   }
 
+  /**
+   * Generates a {@link I18nMessage} for a {@code value} which could not be matched against a given {@code regex} within
+   * {@code maxSteps}
+   *
+   * @param value    the tested value
+   * @param regex    the regex that the {@code value} was tested against
+   * @param maxSteps the step budget of the match
+   * @return a {@link I18nMessage}
+   */
+  public I18nMessage regexBudgetExceeded(String value, String regex, long maxSteps) {
+    return createMessage(bundlePath, 25, value, regex, maxSteps);
+  }
+
+  /**
+   * Generates a {@link I18nMessage} for a {@code value} which doesn't match any of the given {@code regexes}
+   *
+   * @param value   the tested value
+   * @param regexes the regexes that the {@code value} was tested against
+   * @return a {@link I18nMessage}
+   */
+  public I18nMessage regexesDoNotMatch(String value, List<String> regexes) {
+    return createMessage(bundlePath, 26, value, regexes);
+  }
+
+  /**
+   * Generates a {@link I18nMessage} for a streamed value which doesn't match a given {@code regex}. The value itself is not
+   * part of the message, as it can be arbitrarily large.
+   *
+   * @param regex the regex that the value was tested against
+   * @return a {@link I18nMessage}
+   */
+  public I18nMessage streamDoesNotMatchRegex(String regex) {
+    return createMessage(bundlePath, 27, regex);
+  }
+
+  /**
+   * Generates a {@link I18nMessage} for a number which has more digits after its decimal separator than allowed
+   *
+   * @param value    the value that was tested
+   * @param maxScale the largest number of digits allowed after the decimal separator
+   * @return a {@link I18nMessage}
+   */
+  public I18nMessage scaleExceeded(Object value, int maxScale) {
+    return createMessage(bundlePath, 28, value, maxScale);
+  }
+
+  /**
+   * Generates a {@link I18nMessage} for a number which has more significant digits than allowed
+   *
+   * @param value        the value that was tested
+   * @param maxPrecision the largest number of significant digits allowed
+   * @return a {@link I18nMessage}
+   */
+  public I18nMessage precisionExceeded(Object value, int maxPrecision) {
+    return createMessage(bundlePath, 29, value, maxPrecision);
+  }
+
   /**
    * Generates a {@link I18nMessage} for a String which was expected to be blank but wasn't
    *
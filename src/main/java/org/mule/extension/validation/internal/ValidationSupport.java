@@ -53,7 +53,7 @@ abstract class ValidationSupport {
 
   protected Locale parseLocale(String locale) {
     locale = isBlank(locale) ? ValidationExtension.DEFAULT_LOCALE : locale;
-    return new Locale(locale);
+    return Locales.forLanguage(locale);
   }
 
   protected void logSuccessfulValidation(Validator validator) {
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Locale.ENGLISH;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.validator.routines.DomainValidator;
+import org.apache.commons.validator.routines.DomainValidator.ArrayType;
+import org.apache.commons.validator.routines.DomainValidator.Item;
+
+/**
+ * An immutable set of top level domains, held in a trie of {@code char}s laid out in flat arrays, which is looked up ignoring
+ * the case of ASCII letters and without allocating.
+ * <p/>
+ * The {@link #builtIn()} instance holds the domains known to commons {@link DomainValidator}, from the IANA list it was
+ * released with, so that it accepts the same domains as {@link DomainValidator#getInstance()}. Each configuration can extend
+ * it with the domains delegated since, see {@link #plus(Collection)}, for example from a newer copy of the IANA list read with
+ * {@link #read(Path)}.
+ *
+ * @since 3.0
+ */
+public final class TopLevelDomains {
+
+  private static final int MAX_LENGTH = 63;
+
+  private static final TopLevelDomains BUILT_IN = new TopLevelDomains(commonsDomains());
+
+  private final Set<String> domains;
+
+  /**
+   * The edges leaving node {@code n} are those between {@code firstEdges[n]} (inclusive) and {@code firstEdges[n + 1]}
+   * (exclusive), sorted by {@link #edgeChars}. Node {@code 0} is the root.
+   */
+  private final int[] firstEdges;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  private final boolean[] terminals;
+
+  private volatile DomainValidator domainValidator;
+
+  /**
+   * @param domains the top level domains, in ASCII (IDNs in their {@code xn--} form) and in any case
+   * @throws IllegalArgumentException if any of the {@code domains} is not a valid label
+   */
+  public TopLevelDomains(Collection<String> domains) {
+    Set<String> normalized = new TreeSet<>();
+    for (String domain : domains) {
+      normalized.add(normalize(domain));
+    }
+    this.domains = unmodifiableSet(normalized);
+
+    // a node per distinct prefix, numbered breadth first so that the edges of each node are contiguous
+    List<Map<Character, Integer>> children = new ArrayList<>();
+    List<Boolean> ends = new ArrayList<>();
+    children.add(new TreeMap<>());
+    ends.add(false);
+    for (String domain : normalized) {
+      int node = 0;
+      for (int i = 0; i < domain.length(); i++) {
+        Integer child = children.get(node).get(domain.charAt(i));
+        if (child == null) {
+          child = children.size();
+          children.get(node).put(domain.charAt(i), child);
+          children.add(new TreeMap<>());
+          ends.add(false);
+        }
+        node = child;
+      }
+      ends.set(node, true);
+    }
+
+    int[] order = new int[children.size()];
+    int[] position = new int[children.size()];
+    int next = 1;
+    for (int i = 0; i < next; i++) {
+      for (int child : children.get(order[i]).values()) {
+        position[child] = next;
+        order[next++] = child;
+      }
+    }
+
+    firstEdges = new int[children.size() + 1];
+    edgeChars = new char[children.size() - 1];
+    edgeTargets = new int[children.size() - 1];
+    terminals = new boolean[children.size()];
+    int edge = 0;
+    for (int i = 0; i < order.length; i++) {
+      firstEdges[i] = edge;
+      terminals[i] = ends.get(order[i]);
+      for (Map.Entry<Character, Integer> child : children.get(order[i]).entrySet()) {
+        edgeChars[edge] = child.getKey();
+        edgeTargets[edge++] = position[child.getValue()];
+      }
+    }
+    firstEdges[order.length] = edge;
+  }
+
+  /**
+   * @return the top level domains the module was released with
+   */
+  public static TopLevelDomains builtIn() {
+    return BUILT_IN;
+  }
+
+  /**
+   * @param domains the top level domains to add, in ASCII
+   * @return these domains together with {@code domains}, which is this same instance if they hold nothing new
+   * @throws IllegalArgumentException if any of the {@code domains} is not a valid label
+   */
+  public TopLevelDomains plus(Collection<String> domains) {
+    if (this.domains.containsAll(normalize(domains))) {
+      return this;
+    }
+    List<String> union = new ArrayList<>(this.domains);
+    union.addAll(domains);
+    return new TopLevelDomains(union);
+  }
+
+  /**
+   * Reads a list of top level domains in the format of the IANA list, {@code tlds-alpha-by-domain.txt}: a domain per line,
+   * where blank lines and lines starting with {@code #} are ignored
+   *
+   * @param path the file to read
+   * @return the domains in the file
+   * @throws IOException              if the file cannot be read
+   * @throws IllegalArgumentException if any line is not a valid label
+   */
+  public static List<String> read(Path path) throws IOException {
+    List<String> domains = new ArrayList<>();
+    try (BufferedReader reader = Files.newBufferedReader(path, UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          domains.add(normalize(line));
+        }
+      }
+    }
+    return domains;
+  }
+
+  /**
+   * @param text  the text holding the domain
+   * @param start the index of the first character of the domain
+   * @param end   the index after its last character
+   * @return whether the region of {@code text} is one of these domains, ignoring the case of ASCII letters
+   */
+  public boolean contains(CharSequence text, int start, int end) {
+    int node = 0;
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        c += 'a' - 'A';
+      }
+      node = child(node, c);
+      if (node < 0) {
+        return false;
+      }
+    }
+    return terminals[node];
+  }
+
+  /**
+   * @param domain the domain to look up
+   * @return whether {@code domain} is one of these domains, ignoring the case of ASCII letters
+   */
+  public boolean contains(CharSequence domain) {
+    return contains(domain, 0, domain.length());
+  }
+
+  /**
+   * @return how many domains there are
+   */
+  public int size() {
+    return domains.size();
+  }
+
+  /**
+   * @return a commons {@link DomainValidator} which accepts these top level domains and no others but the {@code arpa}
+   *         infrastructure one, for the checks which are still delegated to commons
+   */
+  public DomainValidator toDomainValidator() {
+    DomainValidator validator = domainValidator;
+    if (validator == null) {
+      validator = createDomainValidator(domains);
+      domainValidator = validator;
+    }
+    return validator;
+  }
+
+  private int child(int node, char c) {
+    int low = firstEdges[node];
+    int high = firstEdges[node + 1] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      char edge = edgeChars[middle];
+      if (edge < c) {
+        low = middle + 1;
+      } else if (edge > c) {
+        high = middle - 1;
+      } else {
+        return edgeTargets[middle];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Builds a {@link DomainValidator} whose overrides make it accept exactly {@code domains}: they are all generic ones, and the
+   * built in domains which are not among them are removed
+   */
+  private static DomainValidator createDomainValidator(Set<String> domains) {
+    List<String> genericMinus = new ArrayList<>(asList(DomainValidator.getTLDEntries(ArrayType.GENERIC_RO)));
+    genericMinus.removeAll(domains);
+    List<String> countryCodeMinus = new ArrayList<>(asList(DomainValidator.getTLDEntries(ArrayType.COUNTRY_CODE_RO)));
+    countryCodeMinus.removeAll(domains);
+    return DomainValidator.getInstance(false, asList(new Item(ArrayType.GENERIC_PLUS, domains.toArray(new String[0])),
+                                                     new Item(ArrayType.GENERIC_MINUS, genericMinus.toArray(new String[0])),
+                                                     new Item(ArrayType.COUNTRY_CODE_PLUS),
+                                                     new Item(ArrayType.COUNTRY_CODE_MINUS,
+                                                              countryCodeMinus.toArray(new String[0]))));
+  }
+
+  private static List<String> normalize(Collection<String> domains) {
+    List<String> normalized = new ArrayList<>(domains.size());
+    for (String domain : domains) {
+      normalized.add(normalize(domain));
+    }
+    return normalized;
+  }
+
+  private static String normalize(String domain) {
+    String normalized = domain.toLowerCase(ENGLISH);
+    boolean valid = !normalized.isEmpty() && normalized.length() <= MAX_LENGTH;
+    for (int i = 0; i < normalized.length() && valid; i++) {
+      char c = normalized.charAt(i);
+      valid = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c == '-' && i > 0 && i < normalized.length() - 1);
+    }
+    if (!valid) {
+      throw new IllegalArgumentException("'" + domain + "' is not a valid top level domain");
+    }
+    return normalized;
+  }
+
+  /**
+   * @return the domains {@link DomainValidator#getInstance()} accepts, with the overrides set on it
+   */
+  private static Set<String> commonsDomains() {
+    Set<String> domains = new TreeSet<>(asList(DomainValidator.getTLDEntries(ArrayType.INFRASTRUCTURE_RO)));
+    for (ArrayType[] tables : new ArrayType[][] {{ArrayType.GENERIC_RO, ArrayType.GENERIC_PLUS, ArrayType.GENERIC_MINUS},
+        {ArrayType.COUNTRY_CODE_RO, ArrayType.COUNTRY_CODE_PLUS, ArrayType.COUNTRY_CODE_MINUS}}) {
+      Set<String> table = new TreeSet<>(asList(DomainValidator.getTLDEntries(tables[0])));
+      table.addAll(asList(DomainValidator.getTLDEntries(tables[1])));
+      table.removeAll(asList(DomainValidator.getTLDEntries(tables[2])));
+      domains.addAll(table);
+    }
+    return domains;
+  }
+}
@@ -11,16 +11,19 @@ import static org.mule.extension.validation.api.ValidationExtension.nullSafeLoca
 import org.mule.extension.validation.api.NumberType;
 import org.mule.extension.validation.api.ValidationOptions;
 import org.mule.extension.validation.api.Validator;
+import org.mule.extension.validation.internal.Locales;
 import org.mule.extension.validation.internal.ValidationContext;
 import org.mule.extension.validation.internal.ValidationMessages;
 import org.mule.extension.validation.internal.validator.EmailValidator;
 import org.mule.extension.validation.internal.validator.IpValidator;
+import org.mule.extension.validation.internal.validator.MatchesAnyRegexValidator;
 import org.mule.extension.validation.internal.validator.MatchesRegexValidator;
 import org.mule.extension.validation.internal.validator.NumberValidator;
 import org.mule.extension.validation.internal.validator.TimeValidator;
 import org.mule.extension.validation.internal.validator.UrlValidator;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -67,6 +70,30 @@ public final class ValidationFunctions {
     return validate(new MatchesRegexValidator(value, regex, caseSensitive, validationContext));
   }
 
+  /**
+   * Tests if the {@code value} matches at least one of the {@code regexes} regular expressions
+   *
+   * @param value         the value to check
+   * @param regexes       the regular expressions to check against
+   * @param caseSensitive when {@code true} matching is case sensitive, otherwise matching is case in-sensitive
+   * @return {@code true} if the validation succeeded. {@code false} otherwise
+   */
+  public boolean matchesAnyRegex(String value, List<String> regexes, @Optional(defaultValue = "true") boolean caseSensitive) {
+    return validate(new MatchesAnyRegexValidator(value, regexes, caseSensitive, validationContext));
+  }
+
+  /**
+   * Returns which of the {@code regexes} regular expressions the {@code value} matches
+   *
+   * @param value         the value to check
+   * @param regexes       the regular expressions to check against
+   * @param caseSensitive when {@code true} matching is case sensitive, otherwise matching is case in-sensitive
+   * @return the first of the {@code regexes} which the {@code value} matches, or {@code null} if it matches none
+   */
+  public String matchingRegex(String value, List<String> regexes, @Optional(defaultValue = "true") boolean caseSensitive) {
+    return new MatchesAnyRegexValidator(value, regexes, caseSensitive, validationContext).matchingRegex();
+  }
+
   /**
    * Tests if the {@code time} in {@link String} format is valid for the given {@code pattern} and {@code locale}. If no pattern
    * is provided, then the {@code locale}'s default will be used
@@ -90,7 +117,8 @@ public final class ValidationFunctions {
    * @return {@code true} if the validation succeeded. {@code false} otherwise
    */
   public boolean isNumber(String value, NumberType numberType) {
-    return validate(new NumberValidator(value, new Locale(DEFAULT_LOCALE), null, null, null, numberType, validationContext));
+    return validate(new NumberValidator(value, Locales.forLanguage(DEFAULT_LOCALE), null, null, null, numberType,
+                                        validationContext));
   }
 
   /**
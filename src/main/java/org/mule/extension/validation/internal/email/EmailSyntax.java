@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.email;
+
+import org.mule.extension.validation.internal.domain.TopLevelDomains;
+
+import org.apache.commons.validator.routines.EmailValidator;
+
+/**
+ * Single pass validator of email addresses, which accepts and rejects the same addresses as
+ * {@link EmailValidator#getInstance()} without running its regular expressions.
+ * <p/>
+ * The local part is a sequence of words separated by dots, each made of printable ASCII characters other than
+ * {@code ()<>@,;:\".[]} or of characters escaped with a backslash, and is at most 64 characters long. The domain is a sequence
+ * of labels separated by dots, each of 1 to 63 letters, digits and hyphens which neither starts nor ends with a hyphen, at
+ * most 253 characters long in all. Its last label starts with a letter and is one of the given {@link TopLevelDomains}.
+ * <p/>
+ * Addresses which are rarely seen and costly to tell apart, that is those with non ASCII characters, which are converted as
+ * IDNs, with quoted words in the local part or with an IP address as domain, are handed to an {@link EmailValidator} which
+ * looks up the same {@link TopLevelDomains}. Others are checked character by character, without allocating.
+ *
+ * @since 3.0
+ */
+public final class EmailSyntax {
+
+  private static final int MAX_LOCAL_PART_LENGTH = 64;
+  private static final int MAX_DOMAIN_LENGTH = 253;
+  private static final int MAX_LABEL_LENGTH = 63;
+
+  private static final int VALID = 1;
+  private static final int INVALID = 0;
+  private static final int UNDECIDED = -1;
+
+  private EmailSyntax() {}
+
+  /**
+   * @param email the address to test
+   * @return whether {@code email} is a valid address, as told by {@link EmailValidator#getInstance()}
+   */
+  public static boolean isValid(String email) {
+    return isValid(email, TopLevelDomains.builtIn());
+  }
+
+  /**
+   * @param email   the address to test
+   * @param domains the top level domains to accept
+   * @return whether {@code email} is a valid address, as told by an {@link EmailValidator} which accepts {@code domains}
+   */
+  public static boolean isValid(String email, TopLevelDomains domains) {
+    int decision = decide(email, domains);
+    if (decision == UNDECIDED) {
+      return new EmailValidator(false, false, domains.toDomainValidator()).isValid(email);
+    }
+    return decision == VALID;
+  }
+
+  private static int decide(String email, TopLevelDomains domains) {
+    int length = email.length();
+    if (length == 0 || email.charAt(length - 1) == '.') {
+      return INVALID;
+    }
+    int at = email.lastIndexOf('@');
+    if (at <= 0 || at == length - 1) {
+      return INVALID;
+    }
+    int domain = decideDomain(email, at + 1, length, domains);
+    if (domain != VALID) {
+      return domain;
+    }
+    return decideLocalPart(email, at);
+  }
+
+  private static int decideLocalPart(String email, int end) {
+    if (end > MAX_LOCAL_PART_LENGTH) {
+      return INVALID;
+    }
+    int wordLength = 0;
+    for (int i = 0; i < end; i++) {
+      char c = email.charAt(i);
+      if (c >= 0x80 || c == '"') {
+        // quoted words may hold any character, dots included, so the ones so far could be part of one
+        return UNDECIDED;
+      }
+      if (c == '\\') {
+        if (++i == end) {
+          return INVALID;
+        }
+        c = email.charAt(i);
+        if (c >= 0x80 || c == '"') {
+          return UNDECIDED;
+        }
+        if (c == '\n' || c == '\r') {
+          return INVALID;
+        }
+        wordLength++;
+      } else if (c == '.') {
+        if (wordLength == 0) {
+          return INVALID;
+        }
+        wordLength = 0;
+      } else if (isWordChar(c)) {
+        wordLength++;
+      } else {
+        return INVALID;
+      }
+    }
+    return wordLength > 0 ? VALID : INVALID;
+  }
+
+  /**
+   * Decides on the domain between {@code start} and {@code end}. The whole domain is read before deciding, as non ASCII
+   * characters anywhere change how it is read.
+   */
+  private static int decideDomain(String email, int start, int end, TopLevelDomains domains) {
+    if (email.charAt(start) == '[') {
+      return UNDECIDED;
+    }
+    boolean valid = end - start <= MAX_DOMAIN_LENGTH;
+    boolean ascii = true;
+    int labels = 0;
+    int labelStart = start;
+    int lastLabelStart = start;
+    for (int i = start; i <= end; i++) {
+      char c = i < end ? email.charAt(i) : '.';
+      if (c == '.') {
+        valid &= isLabel(email, labelStart, i);
+        labels++;
+        lastLabelStart = labelStart;
+        labelStart = i + 1;
+      } else if (c >= 0x80) {
+        ascii = false;
+      } else if (isWhitespace(c)) {
+        return INVALID;
+      } else if (!isLetterOrDigit(c) && c != '-') {
+        valid = false;
+      }
+    }
+    if (!ascii) {
+      return UNDECIDED;
+    }
+    if (!valid || labels < 2 || !isLetter(email.charAt(lastLabelStart))) {
+      return INVALID;
+    }
+    return domains.contains(email, lastLabelStart, end) ? VALID : INVALID;
+  }
+
+  private static boolean isLabel(String email, int start, int end) {
+    int length = end - start;
+    return length > 0 && length <= MAX_LABEL_LENGTH && isLetterOrDigit(email.charAt(start))
+        && isLetterOrDigit(email.charAt(end - 1));
+  }
+
+  private static boolean isWordChar(char c) {
+    if (c <= ' ' || c >= 0x7f) {
+      return false;
+    }
+    switch (c) {
+      case '(':
+      case ')':
+      case '<':
+      case '>':
+      case '@':
+      case ',':
+      case ';':
+      case ':':
+      case '\\':
+      case '"':
+      case '.':
+      case '[':
+      case ']':
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || (c >= '\t' && c <= '\r');
+  }
+
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isLetterOrDigit(char c) {
+    return isLetter(c) || (c >= '0' && c <= '9');
+  }
+}
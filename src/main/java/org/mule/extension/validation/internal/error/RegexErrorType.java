@@ -7,11 +7,23 @@
 package org.mule.extension.validation.internal.error;
 
 import static org.mule.extension.validation.api.ValidationErrorType.MISMATCH;
+import static org.mule.extension.validation.api.ValidationErrorType.REGEX_BUDGET_EXCEEDED;
 
 import org.mule.extension.validation.api.ValidationErrorType;
+import org.mule.runtime.extension.api.error.ErrorTypeDefinition;
+
+import java.util.HashSet;
+import java.util.Set;
 
 public class RegexErrorType extends BasicValidationErrorType {
 
+  @Override
+  public Set<ErrorTypeDefinition> getErrorTypes() {
+    Set<ErrorTypeDefinition> errorTypes = new HashSet<>(super.getErrorTypes());
+    errorTypes.add(REGEX_BUDGET_EXCEEDED);
+    return errorTypes;
+  }
+
   @Override
   protected ValidationErrorType getErrorType() {
     return MISMATCH;
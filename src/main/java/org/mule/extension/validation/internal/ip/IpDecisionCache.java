@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the answers given by an {@link IpFilter}, keyed on the primitive form of the address.
+ * <p/>
+ * The cache is 4 way set associative: an address can only live in one of the 4 slots of the set its hash points to, and when
+ * all of them are taken the CLOCK algorithm picks the victim, sparing the slots used since the hand last went by. Each set is
+ * guarded by its own lock, so threads only contend when they look up addresses of the same set, and lookups do not allocate.
+ * <p/>
+ * Filters are cached through {@link #wrap(IpFilter)}. Each wrapped filter gets a new generation, which is stored with every
+ * entry, and entries of any other generation are ignored and reused first. Replacing a filter by a new wrapped one thus
+ * invalidates every answer of the previous one at once.
+ *
+ * @since 3.0
+ */
+public final class IpDecisionCache {
+
+  private static final int WAYS = 4;
+  private static final int EMPTY = 0;
+  private static final int GENERATION_MASK = 0x3FFFFFFF;
+
+  private final int setMask;
+  private final long[] highs;
+  private final long[] lows;
+  private final int[] tags;
+  private final boolean[] decisions;
+  private final boolean[] referenced;
+  private final int[] hands;
+  private final Object[] locks;
+
+  private final AtomicInteger generation = new AtomicInteger(EMPTY);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param capacity the maximum number of addresses to keep, rounded up to a power of two of at least 4
+   */
+  public IpDecisionCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+    }
+    int sets = 1;
+    while (sets < (capacity + WAYS - 1) / WAYS) {
+      sets <<= 1;
+    }
+    setMask = sets - 1;
+    highs = new long[sets * WAYS];
+    lows = new long[sets * WAYS];
+    tags = new int[sets * WAYS];
+    decisions = new boolean[sets * WAYS];
+    referenced = new boolean[sets * WAYS];
+    hands = new int[sets];
+    locks = new Object[sets];
+    for (int i = 0; i < sets; i++) {
+      locks[i] = new Object();
+    }
+  }
+
+  /**
+   * @param filter the filter to cache
+   * @return an {@link IpFilter} which answers from this cache when possible and asks {@code filter} otherwise
+   */
+  public IpFilter wrap(IpFilter filter) {
+    int current = generation.incrementAndGet() & GENERATION_MASK;
+    if (current == EMPTY) {
+      current = generation.incrementAndGet() & GENERATION_MASK;
+    }
+    return new CachedIpFilter(filter, current);
+  }
+
+  /**
+   * @return the number of lookups answered by the cache
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of lookups which had to be answered by the filter
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the maximum number of addresses kept
+   */
+  public int capacity() {
+    return highs.length;
+  }
+
+  private int indexOf(long high, long low) {
+    long hash = (high * 0x9E3779B97F4A7C15L) ^ (low * 0xC2B2AE3D27D4EB4FL);
+    return (int) (hash ^ (hash >>> 32)) & setMask;
+  }
+
+  /**
+   * @return {@code 1} or {@code 0} for a cached answer, {@code -1} if there is none
+   */
+  private int get(long high, long low, int tag) {
+    int set = indexOf(high, low);
+    int base = set * WAYS;
+    synchronized (locks[set]) {
+      for (int slot = base; slot < base + WAYS; slot++) {
+        if (tags[slot] == tag && highs[slot] == high && lows[slot] == low) {
+          referenced[slot] = true;
+          return decisions[slot] ? 1 : 0;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private void put(long high, long low, int tag, boolean decision) {
+    int set = indexOf(high, low);
+    int base = set * WAYS;
+    synchronized (locks[set]) {
+      int victim = -1;
+      for (int slot = base; slot < base + WAYS; slot++) {
+        if (tags[slot] == tag && highs[slot] == high && lows[slot] == low) {
+          // another thread got here first
+          return;
+        }
+        if (victim < 0 && tags[slot] >>> 1 != tag >>> 1) {
+          victim = slot;
+        }
+      }
+
+      if (victim < 0) {
+        int hand = hands[set];
+        while (referenced[base + hand]) {
+          referenced[base + hand] = false;
+          hand = (hand + 1) % WAYS;
+        }
+        victim = base + hand;
+        hands[set] = (hand + 1) % WAYS;
+      }
+
+      highs[victim] = high;
+      lows[victim] = low;
+      tags[victim] = tag;
+      decisions[victim] = decision;
+      referenced[victim] = false;
+    }
+  }
+
+  private final class CachedIpFilter implements IpFilter {
+
+    private final IpFilter delegate;
+    private final int generation;
+
+    private CachedIpFilter(IpFilter delegate, int generation) {
+      this.delegate = delegate;
+      this.generation = generation;
+    }
+
+    @Override
+    public boolean contains(IPAddress address) {
+      IpLiteral literal = address.getLiteral();
+      if (!literal.isValid() || literal.isScoped() || literal.hasLeadingZeros()) {
+        // partial entries are matched against the text of these, which the key does not capture
+        return delegate.contains(address);
+      }
+
+      // the family is part of the key: partial entries can match 1.2.3.4 but never ::ffff:102:304
+      boolean ipv4 = literal.isIpv4();
+      long high = ipv4 ? 0L : literal.getHigh();
+      long low = ipv4 ? literal.getIpv4Address() & 0xFFFFFFFFL : literal.getLow();
+      int tag = generation << 1 | (ipv4 ? 1 : 0);
+      int cached = get(high, low, tag);
+      if (cached >= 0) {
+        hits.increment();
+        return cached == 1;
+      }
+
+      misses.increment();
+      boolean decision = delegate.contains(address);
+      put(high, low, tag, decision);
+      return decision;
+    }
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+  }
+}
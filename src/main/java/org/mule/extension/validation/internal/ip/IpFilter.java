@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+
+/**
+ * A set of IP addresses against which the IP filter validations test their input.
+ * <p/>
+ * Implementations must be safe to use from several threads at once.
+ *
+ * @since 3.0
+ */
+public interface IpFilter {
+
+  /**
+   * Tests whether the {@code address} is contained in any of the ranges of this filter
+   *
+   * @param address a valid {@link IPAddress}
+   * @return whether the {@code address} is in range
+   */
+  boolean contains(IPAddress address);
+
+  /**
+   * @return the number of entries in this filter
+   */
+  int size();
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the periodic reloads of all the file backed {@link org.mule.extension.validation.api.IpFilterList}s on a single shared
+ * daemon thread, so that lists do not hold a thread each.
+ * <p/>
+ * The thread is started when the first reload is scheduled and stopped once every scheduled reload is cancelled, so that no
+ * thread outlives the lists of an undeployed application. Reloads run one after the other, so a slow reload delays the checks
+ * of the other lists but never runs concurrently with them.
+ *
+ * @since 3.0
+ */
+public final class IpFilterReloader {
+
+  private static final String THREAD_NAME = "ip-filter-list-reloader";
+
+  private static ScheduledExecutorService executor;
+  private static int scheduled;
+
+  private IpFilterReloader() {}
+
+  /**
+   * Schedules {@code reload} to run every {@code interval}, starting the shared thread if needed
+   *
+   * @param reload   the reload to run, which should not throw
+   * @param interval the delay between the end of a run and the start of the next one
+   * @param unit     the {@link TimeUnit} of {@code interval}
+   * @return the scheduled reload, to be given to {@link #cancel(ScheduledFuture)}
+   */
+  public static synchronized ScheduledFuture<?> schedule(Runnable reload, long interval, TimeUnit unit) {
+    if (executor == null) {
+      executor = newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(reload, interval, interval, unit);
+    scheduled++;
+    return future;
+  }
+
+  /**
+   * Cancels a reload returned by {@link #schedule(Runnable, long, TimeUnit)}, stopping the shared thread if it was the last one.
+   * A reload in progress is left to finish.
+   *
+   * @param reload the reload to cancel
+   */
+  public static synchronized void cancel(ScheduledFuture<?> reload) {
+    if (!reload.cancel(false) && reload.isCancelled()) {
+      // already cancelled
+      return;
+    }
+    if (--scheduled == 0) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+
+  /**
+   * @return whether the shared thread is running, that is whether any reload is scheduled
+   */
+  public static synchronized boolean isRunning() {
+    return executor != null;
+  }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+/**
+ * Primitive form of an IPv4 or IPv6 literal, together with a single pass parser that fills it from a {@link CharSequence}.
+ * <p/>
+ * An IPv4 address is held in one {@code int} and an IPv6 address in two {@code long}s. Parsing never allocates nor touches the
+ * name resolver, and instances can be reused by invoking {@link #parse(CharSequence)} again. Because the parser accepts the
+ * union of the syntaxes used across the module, it also records some facts about the text (scope id, {@code ::} compression,
+ * embedded dotted quad, zero padded octets) so that each caller can enforce its own rules.
+ * <p/>
+ * Instances are not thread safe.
+ *
+ * @since 3.0
+ */
+public final class IpLiteral {
+
+  private static final int IPV4 = 4;
+  private static final int IPV6 = 6;
+
+  private static final int SCOPED = 1;
+  private static final int COMPRESSED = 1 << 1;
+  private static final int EMBEDDED_IPV4 = 1 << 2;
+  private static final int LEADING_ZEROS = 1 << 3;
+
+  private static final long INVALID_IPV4 = -1L;
+
+  private int version;
+  private int flags;
+  private int ipv4;
+  private long high;
+  private long low;
+
+  /**
+   * Parses the whole {@code text}
+   *
+   * @param text the text to parse
+   * @return whether the text is an IPv4 or IPv6 literal
+   */
+  public boolean parse(CharSequence text) {
+    return parse(text, 0, text.length());
+  }
+
+  /**
+   * Parses the region of {@code text} between {@code start} (inclusive) and {@code end} (exclusive)
+   *
+   * @param text  the text to parse
+   * @param start the index of the first character of the literal
+   * @param end   the index after the last character of the literal
+   * @return whether the region is an IPv4 or IPv6 literal
+   */
+  public boolean parse(CharSequence text, int start, int end) {
+    version = 0;
+    flags = 0;
+    ipv4 = 0;
+    high = 0;
+    low = 0;
+
+    if (start >= end) {
+      return false;
+    }
+
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c == ':') {
+        return parseIpv6(text, start, end);
+      } else if (c == '.') {
+        long address = parseIpv4(text, start, end);
+        if (address == INVALID_IPV4) {
+          return false;
+        }
+        version = IPV4;
+        ipv4 = (int) address;
+        return true;
+      } else if (hexValue(c) < 0) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  public boolean isValid() {
+    return version != 0;
+  }
+
+  public boolean isIpv4() {
+    return version == IPV4;
+  }
+
+  public boolean isIpv6() {
+    return version == IPV6;
+  }
+
+  /**
+   * @return whether this is an IPv4 address, or an IPv6 address in the {@code ::ffff:0:0/96} IPv4 mapped range
+   */
+  public boolean isIpv4Compatible() {
+    return version == IPV4 || isMappedIpv4();
+  }
+
+  /**
+   * @return whether this is an IPv6 address in the {@code ::ffff:0:0/96} IPv4 mapped range
+   */
+  public boolean isMappedIpv4() {
+    return version == IPV6 && high == 0 && (low >>> 32) == 0xFFFFL;
+  }
+
+  /**
+   * @return whether the text had a {@code %} zone id, which is not part of the address bits
+   */
+  public boolean isScoped() {
+    return (flags & SCOPED) != 0;
+  }
+
+  /**
+   * @return whether the text used {@code ::} to omit groups of zeros
+   */
+  public boolean isCompressed() {
+    return (flags & COMPRESSED) != 0;
+  }
+
+  /**
+   * @return whether the last 32 bits of an IPv6 text were written as a dotted quad
+   */
+  public boolean hasEmbeddedIpv4() {
+    return (flags & EMBEDDED_IPV4) != 0;
+  }
+
+  /**
+   * @return whether any decimal octet was written with leading zeros, which some parsers reject as ambiguous
+   */
+  public boolean hasLeadingZeros() {
+    return (flags & LEADING_ZEROS) != 0;
+  }
+
+  /**
+   * @return the IPv4 address, or the embedded one when {@link #isMappedIpv4()}
+   */
+  public int getIpv4Address() {
+    return version == IPV4 ? ipv4 : (int) low;
+  }
+
+  /**
+   * @return the 64 most significant bits of the IPv6 address
+   */
+  public long getHigh() {
+    return high;
+  }
+
+  /**
+   * @return the 64 least significant bits of the IPv6 address
+   */
+  public long getLow() {
+    return low;
+  }
+
+  private long parseIpv4(CharSequence text, int start, int end) {
+    int address = 0;
+    int octets = 0;
+    int value = 0;
+    int digits = 0;
+    boolean leadingZero = false;
+
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        if (digits == 3) {
+          return INVALID_IPV4;
+        }
+        if (digits == 1 && value == 0) {
+          leadingZero = true;
+        }
+        value = value * 10 + (c - '0');
+        if (value > 255) {
+          return INVALID_IPV4;
+        }
+        digits++;
+      } else if (c == '.' && digits > 0 && octets < 3) {
+        address = (address << 8) | value;
+        octets++;
+        value = 0;
+        digits = 0;
+      } else {
+        return INVALID_IPV4;
+      }
+    }
+
+    if (digits == 0 || octets != 3) {
+      return INVALID_IPV4;
+    }
+    if (leadingZero) {
+      flags |= LEADING_ZEROS;
+    }
+    return ((address << 8) | value) & 0xFFFFFFFFL;
+  }
+
+  private boolean parseIpv6(CharSequence text, int start, int end) {
+    long headHigh = 0;
+    long headLow = 0;
+    int headGroups = 0;
+    long tailHigh = 0;
+    long tailLow = 0;
+    int tailGroups = 0;
+
+    boolean compressed = false;
+    boolean expectGroup = false;
+    int group = 0;
+    int digits = 0;
+    int groupStart = start;
+
+    int i = start;
+    if (text.charAt(i) == ':') {
+      if (i + 1 >= end || text.charAt(i + 1) != ':') {
+        return false;
+      }
+      compressed = true;
+      i += 2;
+      groupStart = i;
+    }
+
+    for (; i < end; i++) {
+      char c = text.charAt(i);
+      int hex = hexValue(c);
+      if (hex >= 0) {
+        if (digits == 4) {
+          return false;
+        }
+        group = (group << 4) | hex;
+        digits++;
+        expectGroup = false;
+      } else if (c == ':') {
+        if (digits == 0) {
+          return false;
+        }
+        if (compressed) {
+          tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+          tailLow = (tailLow << 16) | group;
+          tailGroups++;
+        } else {
+          headHigh = (headHigh << 16) | (headLow >>> 48);
+          headLow = (headLow << 16) | group;
+          headGroups++;
+        }
+        group = 0;
+        digits = 0;
+
+        if (i + 1 < end && text.charAt(i + 1) == ':') {
+          if (compressed) {
+            return false;
+          }
+          compressed = true;
+          i++;
+        } else {
+          expectGroup = true;
+        }
+        groupStart = i + 1;
+      } else if (c == '.') {
+        if (digits == 0) {
+          return false;
+        }
+        long embedded = parseIpv4(text, groupStart, end);
+        if (embedded == INVALID_IPV4) {
+          return false;
+        }
+        if (compressed) {
+          tailHigh = (tailHigh << 32) | (tailLow >>> 32);
+          tailLow = (tailLow << 32) | embedded;
+          tailGroups += 2;
+        } else {
+          headHigh = (headHigh << 32) | (headLow >>> 32);
+          headLow = (headLow << 32) | embedded;
+          headGroups += 2;
+        }
+        flags |= EMBEDDED_IPV4;
+        digits = 0;
+        expectGroup = false;
+        break;
+      } else if (c == '%') {
+        flags |= SCOPED;
+        break;
+      } else {
+        return false;
+      }
+    }
+
+    if (expectGroup) {
+      return false;
+    }
+    if (digits > 0) {
+      if (compressed) {
+        tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+        tailLow = (tailLow << 16) | group;
+        tailGroups++;
+      } else {
+        headHigh = (headHigh << 16) | (headLow >>> 48);
+        headLow = (headLow << 16) | group;
+        headGroups++;
+      }
+    }
+
+    int groups = headGroups + tailGroups;
+    if (compressed ? groups > 7 : groups != 8) {
+      return false;
+    }
+
+    // move the groups written before '::' to the top of the address
+    int shift = (8 - headGroups) * 16;
+    if (shift >= 128) {
+      headHigh = 0;
+      headLow = 0;
+    } else if (shift >= 64) {
+      headHigh = headLow << (shift - 64);
+      headLow = 0;
+    } else if (shift > 0) {
+      headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+      headLow = headLow << shift;
+    }
+
+    version = IPV6;
+    high = headHigh | tailHigh;
+    low = headLow | tailLow;
+    if (compressed) {
+      flags |= COMPRESSED;
+    }
+    return true;
+  }
+
+  private static int hexValue(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+}
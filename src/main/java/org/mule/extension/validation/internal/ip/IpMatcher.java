@@ -6,73 +6,123 @@
  */
 package org.mule.extension.validation.internal.ip;
 
-import org.mule.runtime.core.api.util.StringUtils;
-
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.Arrays;
+import static java.lang.Character.isWhitespace;
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+import static org.mule.extension.validation.internal.ip.IpPrefixTrie.highMask;
+import static org.mule.extension.validation.internal.ip.IpPrefixTrie.lowMask;
 
 /**
  * IP address range matcher.
+ * <p/>
+ * The range is parsed once into a network address and a mask held as primitives, so that matching is pure arithmetic. Only
+ * address literals are accepted, host names are never resolved. Instances are immutable and may be shared.
  *
  * @since 1.1
  */
 public class IpMatcher {
 
-  private int mask;
-  private InetAddress address;
+  private final boolean ipv4;
+  private final long networkHigh;
+  private final long networkLow;
+  private final long maskHigh;
+  private final long maskLow;
+
+  /**
+   * @param ipRange an IPv4 or IPv6 address literal, optionally followed by {@code /} and a prefix length
+   * @throws IllegalArgumentException if {@code ipRange} is not an address literal or its prefix length is out of range
+   */
+  public IpMatcher(String ipRange) {
+    int end = ipRange.length();
+    int length = -1;
+    int slash = ipRange.indexOf('/');
+    if (slash > 0) {
+      length = parseInt(ipRange.substring(slash + 1).trim());
+      end = slash;
+    }
+
+    int start = 0;
+    while (start < end && isWhitespace(ipRange.charAt(start))) {
+      start++;
+    }
+    while (end > start && isWhitespace(ipRange.charAt(end - 1))) {
+      end--;
+    }
 
-  public IpMatcher(String ipAddress) {
+    IpLiteral literal = new IpLiteral();
+    if (!literal.parse(ipRange, start, end)) {
+      throw new IllegalArgumentException(format("'%s' is not an IP address literal", ipRange));
+    }
 
-    if (ipAddress.indexOf('/') > 0) {
-      String[] addressAndMask = StringUtils.splitAndTrim(ipAddress, "/");
-      ipAddress = addressAndMask[0];
-      mask = Integer.parseInt(addressAndMask[1]);
-    } else {
-      mask = -1;
+    ipv4 = literal.isIpv4Compatible();
+    int width = ipv4 ? 32 : 128;
+    if (slash <= 0) {
+      // no mask, the address has to match exactly
+      length = width;
+    } else if (length < 0 || length > width) {
+      throw new IllegalArgumentException(format("Prefix length %d is out of range for '%s'", length, ipRange));
     }
-    address = parseAddress(ipAddress);
+
+    maskHigh = highMask(ipv4 ? length + 96 : length);
+    maskLow = lowMask(ipv4 ? length + 96 : length);
+    networkHigh = high(literal) & maskHigh;
+    networkLow = low(literal) & maskLow;
   }
 
+  /**
+   * Tests an address given as text
+   *
+   * @param ipAddress an IPv4 or IPv6 address literal
+   * @return whether the address is in range
+   * @throws IllegalArgumentException if {@code ipAddress} is not an address literal
+   */
   public boolean matchIp(String ipAddress) {
-    InetAddress remoteAddress = parseAddress(ipAddress);
-    if (!address.getClass().equals(remoteAddress.getClass())) {
-      return false;
+    IpLiteral literal = new IpLiteral();
+    if (!literal.parse(ipAddress)) {
+      throw new IllegalArgumentException(format("'%s' is not an IP address literal", ipAddress));
     }
+    return matchIp(literal);
+  }
 
-    if (mask < 0) {
-      return remoteAddress.equals(address);
+  /**
+   * Tests an address which was already parsed
+   *
+   * @param ipAddress a valid {@link IpLiteral}
+   * @return whether the address is in range
+   */
+  public boolean matchIp(IpLiteral ipAddress) {
+    if (!ipAddress.isValid() || ipAddress.isIpv4Compatible() != ipv4) {
+      return false;
     }
+    return ((high(ipAddress) ^ networkHigh) & maskHigh) == 0 && ((low(ipAddress) ^ networkLow) & maskLow) == 0;
+  }
 
-    int oddBits = mask % 8;
-    int nMaskBytes = mask / 8 + (oddBits == 0 ? 0 : 1);
-    byte[] mask = new byte[nMaskBytes];
+  boolean isIpv4() {
+    return ipv4;
+  }
 
-    Arrays.fill(mask, 0, oddBits == 0 ? mask.length : mask.length - 1, (byte) 0xFF);
+  long getNetworkHigh() {
+    return networkHigh;
+  }
 
-    if (oddBits != 0) {
-      int finalByte = (1 << oddBits) - 1;
-      finalByte <<= 8 - oddBits;
-      mask[mask.length - 1] = (byte) finalByte;
-    }
+  long getNetworkLow() {
+    return networkLow;
+  }
 
-    byte[] remoteAddressBytes = remoteAddress.getAddress();
-    byte[] requiredAddressBytes = address.getAddress();
+  long getMaskHigh() {
+    return maskHigh;
+  }
 
-    for (int i = 0; i < mask.length; i++) {
-      if ((remoteAddressBytes[i] & mask[i]) != (requiredAddressBytes[i] & mask[i])) {
-        return false;
-      }
-    }
+  long getMaskLow() {
+    return maskLow;
+  }
 
-    return true;
+  // IPv4 addresses, including mapped ones, are laid out as ::ffff:a.b.c.d so both families share the 128 bit arithmetic
+  private static long high(IpLiteral literal) {
+    return literal.isIpv4Compatible() ? 0L : literal.getHigh();
   }
 
-  private InetAddress parseAddress(String address) {
-    try {
-      return InetAddress.getByName(address);
-    } catch (UnknownHostException e) {
-      throw new IllegalArgumentException("Failed to parse address" + address, e);
-    }
+  private static long low(IpLiteral literal) {
+    return literal.isIpv4Compatible() ? 0xFFFF00000000L | (literal.getIpv4Address() & 0xFFFFFFFFL) : literal.getLow();
   }
 }
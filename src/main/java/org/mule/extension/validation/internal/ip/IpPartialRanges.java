@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.lang.Integer.parseInt;
+
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of the partial IPv4 entries of a filter list, such as {@code 192.168} or {@code 10.}.
+ * <p/>
+ * Such an entry matches when its text, followed by a dot, is found anywhere in the text of the address. For an address without
+ * zero padded octets that means the entry can line up with the octets of the address at three positions: its first octet must
+ * be a decimal suffix of the octet it lines up with (because the match can start in the middle of it), each following one must
+ * be equal, and the last one must be followed by a dot. Entries are expanded into those alignments once, when they are loaded:
+ * <ul>
+ * <li>starting at the first octet, as prefixes of an {@link IpPrefixTrie}</li>
+ * <li>starting at the second octet, as bitmaps over the second octet or over the second and third octets</li>
+ * <li>starting at the third octet, as a bitmap over the third octet</li>
+ * </ul>
+ * Address texts which do not have a canonical form (zero padded octets, IPv6 zone ids) are searched for the entries instead.
+ *
+ * @since 3.0
+ */
+public final class IpPartialRanges {
+
+  private static final Pattern IPV4_PARTIAL_ADDRESS_PATTERN =
+      Pattern.compile("(\\d{1,3})(\\.(\\d{1,3})(\\.(\\d{1,3}))?)?\\.?");
+
+  private final IpPrefixTrie leading;
+  private final long[] second;
+  private final long[] secondAndThird;
+  private final long[] third;
+  private final String[] texts;
+
+  private IpPartialRanges(IpPrefixTrie leading, long[] second, long[] secondAndThird, long[] third, String[] texts) {
+    this.leading = leading;
+    this.second = second;
+    this.secondAndThird = secondAndThird;
+    this.third = third;
+    this.texts = texts;
+  }
+
+  /**
+   * @param entry an entry of a filter list
+   * @return whether the {@code entry} is a partial IPv4 address
+   */
+  public static boolean isPartial(String entry) {
+    return IPV4_PARTIAL_ADDRESS_PATTERN.matcher(entry).matches();
+  }
+
+  /**
+   * Tests whether the text of {@code partialIp}, followed by a dot, is found in {@code ipAddress}. This is the definition of a
+   * partial match, which the compiled form reproduces.
+   *
+   * @param partialIp a partial IPv4 address
+   * @param ipAddress the address text
+   * @return whether {@code ipAddress} matches {@code partialIp}
+   */
+  public static boolean matches(String partialIp, String ipAddress) {
+    return ipAddress.indexOf(searchText(partialIp)) >= 0;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Tests whether the {@code address} matches any of the entries
+   *
+   * @param address a valid {@link IPAddress}
+   * @return whether the {@code address} is in range
+   */
+  public boolean contains(IPAddress address) {
+    if (texts.length == 0) {
+      return false;
+    }
+
+    IpLiteral literal = address.getLiteral();
+    if (literal.hasLeadingZeros() || literal.isScoped()) {
+      return search(address.getValue());
+    }
+    if (!literal.isIpv4()) {
+      // the text of an IPv6 address has no dots
+      return false;
+    }
+
+    int ip = literal.getIpv4Address();
+    return leading.contains(ip)
+        || isSet(second, (ip >>> 16) & 0xFF)
+        || isSet(secondAndThird, (ip >>> 8) & 0xFFFF)
+        || isSet(third, (ip >>> 8) & 0xFF);
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public int size() {
+    return texts.length;
+  }
+
+  private boolean search(String ipAddress) {
+    for (String text : texts) {
+      if (ipAddress.indexOf(text) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String searchText(String partialIp) {
+    return partialIp.endsWith(".") ? partialIp : partialIp + ".";
+  }
+
+  private static boolean isSet(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static void set(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << index;
+  }
+
+  /**
+   * Accumulates entries and produces an {@link IpPartialRanges}. Instances are not thread safe.
+   */
+  public static final class Builder {
+
+    private final IpPrefixTrie.Builder leading = IpPrefixTrie.ipv4();
+    private final long[] second = new long[256 / 64];
+    private final long[] secondAndThird = new long[65536 / 64];
+    private final long[] third = new long[256 / 64];
+    private final List<String> texts = new ArrayList<>();
+
+    private Builder() {}
+
+    /**
+     * Adds an entry
+     *
+     * @param partialIp a partial IPv4 address
+     * @return this builder
+     * @throws IllegalArgumentException if {@code partialIp} is not a partial IPv4 address
+     */
+    public Builder add(String partialIp) {
+      if (!isPartial(partialIp)) {
+        throw new IllegalArgumentException(partialIp + " is not a partial IPv4 address");
+      }
+
+      String text = searchText(partialIp);
+      texts.add(text);
+
+      String[] octets = text.substring(0, text.length() - 1).split("\\.");
+      int[] tail = new int[octets.length - 1];
+      for (int i = 1; i < octets.length; i++) {
+        tail[i - 1] = canonicalOctet(octets[i]);
+        if (tail[i - 1] < 0) {
+          // only found in zero padded texts, which are searched
+          return this;
+        }
+      }
+
+      for (int first = 0; first < 256; first++) {
+        if (!Integer.toString(first).endsWith(octets[0])) {
+          continue;
+        }
+
+        // the last octet of the entry has to be followed by a dot, so it can be at most the third one of the address
+        int prefix = first;
+        for (int octet : tail) {
+          prefix = (prefix << 8) | octet;
+        }
+        leading.add(prefix << (8 * (4 - octets.length)), 8 * octets.length);
+
+        if (octets.length == 1) {
+          set(second, first);
+          set(third, first);
+        } else if (octets.length == 2) {
+          set(secondAndThird, prefix);
+        }
+      }
+      return this;
+    }
+
+    public IpPartialRanges build() {
+      return new IpPartialRanges(leading.build(), second, secondAndThird, third, texts.toArray(new String[0]));
+    }
+
+    private static int canonicalOctet(String text) {
+      int value = parseInt(text);
+      return value <= 255 && Integer.toString(value).equals(text) ? value : -1;
+    }
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.min;
+
+/**
+ * Immutable binary radix (Patricia) trie of IP prefixes.
+ * <p/>
+ * Keys are up to 128 bits wide and are held as two {@code long}s, so the same structure serves IPv4 (32 bits, left aligned in
+ * the high word) and IPv6 addresses. Only membership is tracked: a lookup answers whether any stored prefix contains the given
+ * address, visiting at most one node per bit and without allocating.
+ *
+ * @since 3.0
+ */
+public final class IpPrefixTrie {
+
+  private static final IpPrefixTrie EMPTY_IPV4 = new IpPrefixTrie(null, 0);
+  private static final IpPrefixTrie EMPTY_IPV6 = new IpPrefixTrie(null, 0);
+
+  private final Node root;
+  private final int size;
+
+  private IpPrefixTrie(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * @return a new {@link Builder} for 32 bit (IPv4) keys
+   */
+  public static Builder ipv4() {
+    return new Builder(32);
+  }
+
+  /**
+   * @return a new {@link Builder} for 128 bit (IPv6) keys
+   */
+  public static Builder ipv6() {
+    return new Builder(128);
+  }
+
+  /**
+   * Tests whether an IPv4 address is contained in any of the prefixes of this trie
+   *
+   * @param address the address, in network byte order
+   * @return whether a prefix containing the {@code address} exists
+   */
+  public boolean contains(int address) {
+    return contains(((long) address) << 32, 0L);
+  }
+
+  /**
+   * Tests whether an address is contained in any of the prefixes of this trie
+   *
+   * @param high the 64 most significant bits of the address
+   * @param low  the 64 least significant bits of the address
+   * @return whether a prefix containing the address exists
+   */
+  public boolean contains(long high, long low) {
+    Node node = root;
+    while (node != null) {
+      if (((high ^ node.high) & highMask(node.length)) != 0 || ((low ^ node.low) & lowMask(node.length)) != 0) {
+        return false;
+      }
+      if (node.terminal) {
+        return true;
+      }
+      node = bit(high, low, node.length) == 0 ? node.zero : node.one;
+    }
+    return false;
+  }
+
+  /**
+   * @return the number of prefixes that were added to this trie, including those made redundant by a wider one
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  static long highMask(int length) {
+    if (length <= 0) {
+      return 0L;
+    }
+    return length >= 64 ? -1L : -1L << (64 - length);
+  }
+
+  static long lowMask(int length) {
+    if (length <= 64) {
+      return 0L;
+    }
+    return length >= 128 ? -1L : -1L << (128 - length);
+  }
+
+  private static int bit(long high, long low, int index) {
+    return (int) (index < 64 ? (high >>> (63 - index)) & 1 : (low >>> (127 - index)) & 1);
+  }
+
+  private static int commonPrefixLength(long high, long low, Node node, int max) {
+    long diff = high ^ node.high;
+    if (diff != 0) {
+      return min(numberOfLeadingZeros(diff), max);
+    }
+    diff = low ^ node.low;
+    return min(64 + (diff == 0 ? 64 : numberOfLeadingZeros(diff)), max);
+  }
+
+  /**
+   * A trie node. Terminal nodes stand for a whole prefix and never have children, every other node is a branch with exactly two.
+   */
+  private static final class Node {
+
+    private final long high;
+    private final long low;
+    private final int length;
+    private final boolean terminal;
+    private Node zero;
+    private Node one;
+
+    private Node(long high, long low, int length, boolean terminal) {
+      this.high = high & highMask(length);
+      this.low = low & lowMask(length);
+      this.length = length;
+      this.terminal = terminal;
+    }
+  }
+
+  /**
+   * Accumulates prefixes and produces an {@link IpPrefixTrie}. Instances are not thread safe and must not be used after
+   * {@link #build()} is invoked.
+   */
+  public static final class Builder {
+
+    private final int width;
+    private Node root;
+    private int size;
+
+    private Builder(int width) {
+      this.width = width;
+    }
+
+    /**
+     * Adds an IPv4 prefix
+     *
+     * @param address the network address, host bits are ignored
+     * @param length  the prefix length, between 0 and 32
+     * @return this builder
+     */
+    public Builder add(int address, int length) {
+      return add(((long) address) << 32, 0L, length);
+    }
+
+    /**
+     * Adds a prefix
+     *
+     * @param high   the 64 most significant bits of the network address
+     * @param low    the 64 least significant bits of the network address
+     * @param length the prefix length, between 0 and the width of this builder
+     * @return this builder
+     */
+    public Builder add(long high, long low, int length) {
+      if (length < 0 || length > width) {
+        throw new IllegalArgumentException("Prefix length " + length + " is out of range for a " + width + " bit address");
+      }
+      root = insert(root, high, low, length);
+      size++;
+      return this;
+    }
+
+    public IpPrefixTrie build() {
+      if (root == null) {
+        return width == 32 ? EMPTY_IPV4 : EMPTY_IPV6;
+      }
+      return new IpPrefixTrie(root, size);
+    }
+
+    private Node insert(Node node, long high, long low, int length) {
+      if (node == null) {
+        return new Node(high, low, length, true);
+      }
+
+      int common = commonPrefixLength(high, low, node, min(length, node.length));
+      if (common == length) {
+        // the new prefix contains everything below this node
+        return new Node(high, low, length, true);
+      }
+
+      if (common < node.length) {
+        Node branch = new Node(high, low, common, false);
+        Node leaf = new Node(high, low, length, true);
+        if (bit(high, low, common) == 0) {
+          branch.zero = leaf;
+          branch.one = node;
+        } else {
+          branch.zero = node;
+          branch.one = leaf;
+        }
+        return branch;
+      }
+
+      if (!node.terminal) {
+        if (bit(high, low, node.length) == 0) {
+          node.zero = insert(node.zero, high, low, length);
+        } else {
+          node.one = insert(node.one, high, low, length);
+        }
+      }
+      return node;
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.lang.Integer.compareUnsigned;
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import org.mule.extension.validation.api.IpRangeFiles;
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An {@link IpFilter} backed by a memory mapped file of sorted address ranges, in the format documented by {@link IpRangeFiles}.
+ * <p/>
+ * Testing an address is a binary search over the mapped pages, so nothing but the mapping itself lives in the heap, regardless
+ * of the number of ranges.
+ *
+ * @since 3.0
+ */
+public final class IpRangeFile implements IpFilter {
+
+  private static final int MAGIC = 0x4D495052;
+  private static final int VERSION = IpRangeFiles.FORMAT_VERSION;
+  private static final int HEADER_SIZE = 16;
+  private static final int IPV4_RANGE_SIZE = 8;
+  private static final int IPV6_RANGE_SIZE = 32;
+
+  private final ByteBuffer buffer;
+  private final int ipv4Count;
+  private final int ipv6Count;
+  private final int ipv6Offset;
+
+  private IpRangeFile(ByteBuffer buffer, int ipv4Count, int ipv6Count) {
+    this.buffer = buffer;
+    this.ipv4Count = ipv4Count;
+    this.ipv6Count = ipv6Count;
+    this.ipv6Offset = HEADER_SIZE + ipv4Count * IPV4_RANGE_SIZE;
+  }
+
+  /**
+   * Tests whether {@code path} starts with the header of a range file
+   *
+   * @param path a file
+   * @return whether the file has the range file format
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isRangeFile(Path path) throws IOException {
+    try (InputStream in = Files.newInputStream(path)) {
+      byte[] magic = new byte[4];
+      int read = 0;
+      while (read < magic.length) {
+        int count = in.read(magic, read, magic.length - read);
+        if (count < 0) {
+          return false;
+        }
+        read += count;
+      }
+      return ByteBuffer.wrap(magic).getInt() == MAGIC;
+    }
+  }
+
+  /**
+   * Maps a range file into memory
+   *
+   * @param path a file produced by {@link #write(Iterable, Path)}
+   * @return a new {@link IpRangeFile}
+   * @throws IOException if the file cannot be read or is not a valid range file
+   */
+  public static IpRangeFile open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      long fileSize = channel.size();
+      if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+        throw new IOException(format("'%s' is not a valid IP range file, its size is %d bytes", path, fileSize));
+      }
+
+      ByteBuffer buffer = channel.map(READ_ONLY, 0, fileSize);
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+        throw new IOException(format("'%s' is not a valid IP range file, unknown header", path));
+      }
+
+      int ipv4Count = buffer.getInt(8);
+      int ipv6Count = buffer.getInt(12);
+      long expectedSize = HEADER_SIZE + (long) ipv4Count * IPV4_RANGE_SIZE + (long) ipv6Count * IPV6_RANGE_SIZE;
+      if (ipv4Count < 0 || ipv6Count < 0 || expectedSize != fileSize) {
+        throw new IOException(format("'%s' is not a valid IP range file, expected %d bytes but found %d", path, expectedSize,
+                                     fileSize));
+      }
+      return new IpRangeFile(buffer, ipv4Count, ipv6Count);
+    }
+  }
+
+  /**
+   * Writes a range file with the given entries. Overlapping and adjacent ranges are merged.
+   *
+   * @param ranges addresses or CIDR ranges
+   * @param path   the file to write, replaced if it exists
+   * @throws IOException              if the file cannot be written
+   * @throws IllegalArgumentException if any of the {@code ranges} is not an address or a CIDR range
+   */
+  public static void write(Iterable<String> ranges, Path path) throws IOException {
+    long[] ipv4 = new long[64];
+    int ipv4Count = 0;
+    List<long[]> ipv6 = new ArrayList<>();
+
+    for (String range : ranges) {
+      IpMatcher matcher = new IpMatcher(range);
+      if (matcher.isIpv4()) {
+        if (ipv4Count == ipv4.length) {
+          ipv4 = Arrays.copyOf(ipv4, ipv4Count * 2);
+        }
+        long start = matcher.getNetworkLow() & 0xFFFFFFFFL;
+        long end = (matcher.getNetworkLow() | ~matcher.getMaskLow()) & 0xFFFFFFFFL;
+        // both ends are unsigned 32 bit values, so the packed value sorts by start
+        ipv4[ipv4Count++] = (start << 32 | end) ^ Long.MIN_VALUE;
+      } else {
+        ipv6.add(new long[] {matcher.getNetworkHigh(), matcher.getNetworkLow(),
+            matcher.getNetworkHigh() | ~matcher.getMaskHigh(), matcher.getNetworkLow() | ~matcher.getMaskLow()});
+      }
+    }
+
+    Arrays.sort(ipv4, 0, ipv4Count);
+    ipv4Count = mergeIpv4(ipv4, ipv4Count);
+    ipv6.sort((left, right) -> compare(left[0], left[1], right[0], right[1]));
+    List<long[]> mergedIpv6 = mergeIpv6(ipv6);
+
+    OutputStream file = Files.newOutputStream(path, CREATE, WRITE, TRUNCATE_EXISTING);
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(ipv4Count);
+      out.writeInt(mergedIpv6.size());
+      for (int i = 0; i < ipv4Count; i++) {
+        out.writeLong(ipv4[i]);
+      }
+      for (long[] range : mergedIpv6) {
+        for (long value : range) {
+          out.writeLong(value);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean contains(IPAddress address) {
+    IpLiteral literal = address.getLiteral();
+    if (!literal.isValid()) {
+      return false;
+    }
+    return literal.isIpv4Compatible()
+        ? containsIpv4(literal.getIpv4Address())
+        : containsIpv6(literal.getHigh(), literal.getLow());
+  }
+
+  /**
+   * @return the number of ranges in the file, after merging
+   */
+  @Override
+  public int size() {
+    return ipv4Count + ipv6Count;
+  }
+
+  private boolean containsIpv4(int ip) {
+    // find the last range which starts at or before the address
+    int low = 0;
+    int high = ipv4Count - 1;
+    int candidate = -1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (compareUnsigned(buffer.getInt(HEADER_SIZE + middle * IPV4_RANGE_SIZE), ip) <= 0) {
+        candidate = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return candidate >= 0 && compareUnsigned(ip, buffer.getInt(HEADER_SIZE + candidate * IPV4_RANGE_SIZE + 4)) <= 0;
+  }
+
+  private boolean containsIpv6(long ipHigh, long ipLow) {
+    int low = 0;
+    int high = ipv6Count - 1;
+    int candidate = -1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int offset = ipv6Offset + middle * IPV6_RANGE_SIZE;
+      if (compare(buffer.getLong(offset), buffer.getLong(offset + 8), ipHigh, ipLow) <= 0) {
+        candidate = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+    if (candidate < 0) {
+      return false;
+    }
+    int offset = ipv6Offset + candidate * IPV6_RANGE_SIZE;
+    return compare(ipHigh, ipLow, buffer.getLong(offset + 16), buffer.getLong(offset + 24)) <= 0;
+  }
+
+  private static int compare(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+    int result = Long.compareUnsigned(leftHigh, rightHigh);
+    return result != 0 ? result : Long.compareUnsigned(leftLow, rightLow);
+  }
+
+  private static int mergeIpv4(long[] ranges, int count) {
+    int merged = 0;
+    for (int i = 0; i < count; i++) {
+      long range = ranges[i] ^ Long.MIN_VALUE;
+      long start = range >>> 32;
+      long end = range & 0xFFFFFFFFL;
+      if (merged > 0) {
+        long previousEnd = ranges[merged - 1] & 0xFFFFFFFFL;
+        if (start <= previousEnd + 1) {
+          if (end > previousEnd) {
+            ranges[merged - 1] = (ranges[merged - 1] & 0xFFFFFFFF00000000L) | end;
+          }
+          continue;
+        }
+      }
+      ranges[merged++] = range;
+    }
+    return merged;
+  }
+
+  private static List<long[]> mergeIpv6(List<long[]> ranges) {
+    List<long[]> merged = new ArrayList<>(ranges.size());
+    for (long[] range : ranges) {
+      if (!merged.isEmpty()) {
+        long[] previous = merged.get(merged.size() - 1);
+        // adjacent when the previous range ends right before this one starts
+        boolean adjacent = previous[3] + 1 == range[1] && (range[1] != 0 ? previous[2] == range[0] : previous[2] + 1 == range[0]);
+        if (compare(range[0], range[1], previous[2], previous[3]) <= 0 || adjacent) {
+          if (compare(range[2], range[3], previous[2], previous[3]) > 0) {
+            previous[2] = range[2];
+            previous[3] = range[3];
+          }
+          continue;
+        }
+      }
+      merged.add(range);
+    }
+    return merged;
+  }
+}
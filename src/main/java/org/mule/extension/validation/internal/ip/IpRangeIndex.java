@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.lang.Character.isWhitespace;
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+import static java.lang.String.join;
+
+import org.mule.extension.validation.api.IpFilterList;
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of the entries of an {@link IpFilterList}.
+ * <p/>
+ * Address and CIDR entries are folded into one {@link IpPrefixTrie} per address family when the index is created, so that
+ * testing an address costs a walk of at most 32 or 128 bits regardless of the size of the list. Partial IPv4 entries are
+ * compiled into {@link IpPartialRanges}. Every entry is validated when compiling, so a malformed one is reported once instead
+ * of failing each lookup.
+ *
+ * @since 3.0
+ */
+public final class IpRangeIndex implements IpFilter {
+
+  private final IpPrefixTrie ipv4;
+  private final IpPrefixTrie ipv6;
+  private final IpPartialRanges partialRanges;
+  private final int size;
+
+  private IpRangeIndex(IpPrefixTrie ipv4, IpPrefixTrie ipv6, IpPartialRanges partialRanges, int size) {
+    this.ipv4 = ipv4;
+    this.ipv6 = ipv6;
+    this.partialRanges = partialRanges;
+    this.size = size;
+  }
+
+  /**
+   * Compiles the given {@code ranges}
+   *
+   * @param ranges addresses, CIDR ranges or partial IPv4 addresses
+   * @return a new {@link IpRangeIndex}
+   * @throws IllegalArgumentException if any of the {@code ranges} is malformed, listing all of them
+   */
+  public static IpRangeIndex compile(List<String> ranges) {
+    IpPrefixTrie.Builder ipv4 = IpPrefixTrie.ipv4();
+    IpPrefixTrie.Builder ipv6 = IpPrefixTrie.ipv6();
+    IpPartialRanges.Builder partial = IpPartialRanges.builder();
+    List<String> errors = new ArrayList<>();
+
+    for (String range : ranges) {
+      if (range == null) {
+        errors.add("an entry is empty");
+      } else if (IpPartialRanges.isPartial(range)) {
+        partial.add(range);
+      } else {
+        String error = addPrefix(range, ipv4, ipv6);
+        if (error != null) {
+          errors.add(error);
+        }
+      }
+    }
+
+    if (!errors.isEmpty()) {
+      throw new IllegalArgumentException("Invalid IP filter list: " + join(", ", errors));
+    }
+    return new IpRangeIndex(ipv4.build(), ipv6.build(), partial.build(), ranges.size());
+  }
+
+  @Override
+  public boolean contains(IPAddress address) {
+    IpLiteral literal = address.getLiteral();
+    if (!literal.isValid()) {
+      return false;
+    }
+
+    boolean inRange = literal.isIpv4Compatible()
+        ? ipv4.contains(literal.getIpv4Address())
+        : ipv6.contains(literal.getHigh(), literal.getLow());
+
+    return inRange || partialRanges.contains(address);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code null} if the {@code range} was added, or why it could not be
+   */
+  private static String addPrefix(String range, IpPrefixTrie.Builder ipv4, IpPrefixTrie.Builder ipv6) {
+    int end = range.length();
+    int length = -1;
+    int slash = range.indexOf('/');
+    if (slash > 0) {
+      try {
+        length = parseInt(range.substring(slash + 1).trim());
+      } catch (NumberFormatException e) {
+        return format("'%s' does not have a numeric prefix length", range);
+      }
+      end = slash;
+    }
+
+    int start = 0;
+    while (start < end && isWhitespace(range.charAt(start))) {
+      start++;
+    }
+    while (end > start && isWhitespace(range.charAt(end - 1))) {
+      end--;
+    }
+
+    IpLiteral literal = new IpLiteral();
+    if (!literal.parse(range, start, end)) {
+      return format("'%s' is not an IP address, CIDR range or partial IPv4 address", range);
+    }
+
+    int width = literal.isIpv4Compatible() ? 32 : 128;
+    if (slash < 0) {
+      length = width;
+    } else if (length < 0 || length > width) {
+      return format("'%s' has a prefix length out of the 0 to %d range", range, width);
+    }
+
+    if (literal.isIpv4Compatible()) {
+      ipv4.add(literal.getIpv4Address(), length);
+    } else {
+      ipv6.add(literal.getHigh(), literal.getLow(), length);
+    }
+    return null;
+  }
+}
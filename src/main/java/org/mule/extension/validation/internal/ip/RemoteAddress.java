@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+/**
+ * Locates the IP address inside the remote address text reported by Mule, such as {@code host/10.0.0.1:8080},
+ * {@code /[::1]:8080} or a bare address.
+ * <p/>
+ * For unbracketed texts the result is the same as the second group of the first match of {@code ([^/]*)/(.*):(.*)}: the text
+ * between the first {@code /} which is followed by a {@code :} on the same line, and the last such {@code :}. When there is no
+ * such {@code /}, the whole text is the address. On top of that, when that text starts with a bracketed IPv6 literal,
+ * optionally followed by a port, the literal is returned without its brackets. Such texts were never valid addresses, so
+ * valid results are unchanged.
+ * <p/>
+ * The text is scanned once and nothing is allocated, the region is returned packed in a {@code long}.
+ *
+ * @since 3.0
+ */
+public final class RemoteAddress {
+
+  private RemoteAddress() {}
+
+  /**
+   * Locates the address in {@code text}
+   *
+   * @param text a remote address
+   * @return the region of {@code text} holding the address, to be unpacked with {@link #start(long)} and {@link #end(long)}
+   */
+  public static long locate(CharSequence text) {
+    int length = text.length();
+    int slash = indexOf(text, '/', 0, length);
+    while (slash >= 0) {
+      int lineEnd = slash + 1;
+      while (lineEnd < length && !isLineTerminator(text.charAt(lineEnd))) {
+        lineEnd++;
+      }
+
+      int colon = lastIndexOf(text, ':', slash + 1, lineEnd);
+      if (colon >= 0) {
+        long bracketed = bracketed(text, slash + 1, lineEnd);
+        return bracketed >= 0 ? bracketed : region(slash + 1, colon);
+      }
+
+      // any other slash on this line is followed by the same colon free text, so go on with the next line
+      slash = indexOf(text, '/', lineEnd, length);
+    }
+
+    long bracketed = bracketed(text, 0, length);
+    return bracketed >= 0 ? bracketed : region(0, length);
+  }
+
+  /**
+   * Locates the address in {@code text} and returns it
+   *
+   * @param text a remote address
+   * @return the address, which is {@code text} itself when nothing had to be stripped
+   */
+  public static String extract(String text) {
+    long region = locate(text);
+    int start = start(region);
+    int end = end(region);
+    return start == 0 && end == text.length() ? text : text.substring(start, end);
+  }
+
+  /**
+   * @param region a value returned by {@link #locate(CharSequence)}
+   * @return the index of the first character of the address
+   */
+  public static int start(long region) {
+    return (int) (region >>> 32);
+  }
+
+  /**
+   * @param region a value returned by {@link #locate(CharSequence)}
+   * @return the index after the last character of the address
+   */
+  public static int end(long region) {
+    return (int) region;
+  }
+
+  private static long region(int start, int end) {
+    return ((long) start << 32) | end;
+  }
+
+  /**
+   * Matches {@code [address]} or {@code [address]:port} at {@code start}, where {@code port} are digits running until {@code end}
+   *
+   * @return the region between the brackets, or {@code -1} if there is no match
+   */
+  private static long bracketed(CharSequence text, int start, int end) {
+    if (start >= end || text.charAt(start) != '[') {
+      return -1;
+    }
+    int close = indexOf(text, ']', start + 1, end);
+    if (close < 0) {
+      return -1;
+    }
+    if (close + 1 < end) {
+      if (text.charAt(close + 1) != ':' || close + 2 == end) {
+        return -1;
+      }
+      for (int i = close + 2; i < end; i++) {
+        char c = text.charAt(i);
+        if (c < '0' || c > '9') {
+          return -1;
+        }
+      }
+    }
+    return region(start + 1, close);
+  }
+
+  private static int indexOf(CharSequence text, char c, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (text.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int lastIndexOf(CharSequence text, char c, int from, int to) {
+    for (int i = to - 1; i >= from; i--) {
+      if (text.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // the characters java.util.regex does not match with '.' by default
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
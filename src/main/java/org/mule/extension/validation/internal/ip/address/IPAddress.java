@@ -10,12 +10,12 @@ import static java.lang.String.format;
 import static org.mule.extension.validation.api.ValidationErrorType.INVALID_IP;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 
+import org.mule.extension.validation.internal.ip.IpLiteral;
 import org.mule.extension.validation.internal.ip.IpMatcher;
+import org.mule.extension.validation.internal.ip.IpPartialRanges;
 import org.mule.runtime.api.i18n.I18nMessage;
 import org.mule.runtime.extension.api.exception.ModuleException;
 
-import java.util.regex.Pattern;
-
 /**
  * Represents a generic IP address.
  *
@@ -23,44 +23,70 @@ import java.util.regex.Pattern;
  */
 public abstract class IPAddress {
 
-  private static final String IPV4_PARTIAL_ADDRESS = "(\\d{1,3})(\\.(\\d{1,3})(\\.(\\d{1,3}))?)?";
-  private static final Pattern IPV4_PARTIAL_ADDRESS_PATTERN = Pattern.compile(IPV4_PARTIAL_ADDRESS);
-
   private final String internalValue;
+  private final IpLiteral literal;
+  private IpMatcher matcher;
 
   public IPAddress(String ipAddress) {
+    this(ipAddress, parse(ipAddress));
+  }
+
+  public IPAddress(String ipAddress, IpLiteral literal) {
     this.internalValue = ipAddress;
+    this.literal = literal;
   }
 
   public abstract boolean isValid();
 
+  /**
+   * @return the textual representation this address was created from
+   */
+  public String getValue() {
+    return internalValue;
+  }
+
+  /**
+   * @return the primitive form of this address, parsed once when the instance was created
+   */
+  public IpLiteral getLiteral() {
+    return literal;
+  }
+
   public boolean matches(IPAddress anotherIPAddress) {
     String ipRange = anotherIPAddress.internalValue;
     String ipAddress = this.internalValue;
 
-    if (IPV4_PARTIAL_ADDRESS_PATTERN.matcher(ipRange).matches()) {
-      return validatePartialIpv4(ipRange, ipAddress);
+    if (IpPartialRanges.isPartial(ipRange)) {
+      return IpPartialRanges.matches(ipRange, ipAddress);
+    }
+    if (!literal.isValid()) {
+      I18nMessage message = createStaticMessage(format("'%s' is not a valid IP address", ipAddress));
+      throw new ModuleException(message, INVALID_IP);
     }
-    return matcherFor(ipRange).matchIp(ipAddress);
+    return anotherIPAddress.getMatcher().matchIp(literal);
   }
 
-  private IpMatcher matcherFor(String ipRange) {
-    IpMatcher ipAddressMatcher;
-
-    try {
-      ipAddressMatcher = new IpMatcher(ipRange);
-    } catch (Exception e) {
-      I18nMessage message = createStaticMessage(format("'%s' is not a valid IP address or range"), ipRange);
-      throw new ModuleException(message, INVALID_IP, e);
+  /**
+   * @return the {@link IpMatcher} for this address taken as a range. It is created on first use and then reused, which is safe
+   *         because matchers are immutable.
+   */
+  private IpMatcher getMatcher() {
+    IpMatcher ipAddressMatcher = matcher;
+    if (ipAddressMatcher == null) {
+      try {
+        ipAddressMatcher = new IpMatcher(internalValue);
+      } catch (Exception e) {
+        I18nMessage message = createStaticMessage(format("'%s' is not a valid IP address or range", internalValue));
+        throw new ModuleException(message, INVALID_IP, e);
+      }
+      matcher = ipAddressMatcher;
     }
     return ipAddressMatcher;
   }
 
-  private boolean validatePartialIpv4(String partialIp, String ipAddress) {
-    if (!partialIp.endsWith(".")) {
-      partialIp = partialIp + ".";
-    }
-    String formattedPartialIp = partialIp.replaceAll("\\.", "\\\\.");
-    return Pattern.compile(formattedPartialIp).matcher(ipAddress).find();
+  private static IpLiteral parse(String ipAddress) {
+    IpLiteral literal = new IpLiteral();
+    literal.parse(ipAddress);
+    return literal;
   }
 }
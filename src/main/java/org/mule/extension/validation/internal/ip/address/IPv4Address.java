@@ -6,6 +6,8 @@
  */
 package org.mule.extension.validation.internal.ip.address;
 
+import org.mule.extension.validation.internal.ip.IpLiteral;
+
 /**
  * Represents an IPv4 address.
  *
@@ -17,6 +19,10 @@ public class IPv4Address extends IPAddress {
     super(ipAddress);
   }
 
+  public IPv4Address(String ipAddress, IpLiteral literal) {
+    super(ipAddress, literal);
+  }
+
   @Override
   public boolean isValid() {
     return true;
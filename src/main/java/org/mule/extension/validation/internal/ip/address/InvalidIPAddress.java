@@ -6,6 +6,8 @@
  */
 package org.mule.extension.validation.internal.ip.address;
 
+import org.mule.extension.validation.internal.ip.IpLiteral;
+
 /**
  * Represents an invalid IP address.
  *
@@ -17,6 +19,10 @@ public class InvalidIPAddress extends IPAddress {
     super(ipAddress);
   }
 
+  public InvalidIPAddress(String ipAddress, IpLiteral literal) {
+    super(ipAddress, literal);
+  }
+
   @Override
   public boolean isValid() {
     return false;
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Parser of plain decimal numbers, such as {@code -1234} or {@code 12.5}, which gives the same results as the commons number
+ * validators do without a pattern, without going through a {@link DecimalFormat}.
+ * <p/>
+ * Only values made of an optional leading {@code -}, ASCII digits and at most one decimal separator are decided, and only for
+ * locales whose default {@link NumberFormat} has a {@code -} prefix for negative numbers, no other affixes and ASCII digits.
+ * Values with grouping separators, exponents, other signs or digits, or surrounding whitespace are left to the validators.
+ * <p/>
+ * Instances are not thread safe.
+ *
+ * @since 3.0
+ */
+public final class AsciiNumberParser {
+
+  public static final int VALID = 1;
+  public static final int INVALID = 0;
+  public static final int UNDECIDED = -1;
+
+  /**
+   * Mantissas of up to this many digits are exactly represented by a {@code double}
+   */
+  private static final int MAX_EXACT_DIGITS = 15;
+
+  private static final double[] POWERS_OF_TEN = new double[23];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private long integer;
+  private double decimal;
+
+  /**
+   * Parses {@code value} as an integer, as {@link org.apache.commons.validator.routines.LongValidator} does
+   *
+   * @param value  the value to parse
+   * @param locale the locale of the value, or {@code null} for the default one
+   * @param min    the smallest value of the type to parse into
+   * @param max    the largest value of the type to parse into
+   * @return {@link #VALID} if {@code value} is an integer between {@code min} and {@code max}, which is then available from
+   *         {@link #getInteger()}, {@link #INVALID} if it is not, or {@link #UNDECIDED} if it has to be parsed by a
+   *         {@link DecimalFormat}
+   */
+  public int parseInteger(String value, Locale locale, long min, long max) {
+    if (value == null || value.isEmpty()) {
+      return INVALID;
+    }
+    int start = start(value);
+    if (start < 0) {
+      return UNDECIDED;
+    }
+    char separator = NumberSymbols.of(locale).getPlainDecimalSeparator();
+    if (separator == 0) {
+      return UNDECIDED;
+    }
+    boolean negative = start > 0;
+
+    // accumulated negatively, as the negative range is the wider one
+    long result = 0;
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == separator) {
+        // integers are parsed up to the separator, which leaves the rest unparsed
+        return INVALID;
+      }
+      if (c < '0' || c > '9') {
+        return UNDECIDED;
+      }
+      int digit = c - '0';
+      if (result < (Long.MIN_VALUE + digit) / 10) {
+        // parsed into a double, which an exponent further on can bring back within the range of the type
+        return UNDECIDED;
+      }
+      result = result * 10 - digit;
+    }
+    if (!negative) {
+      if (result == Long.MIN_VALUE) {
+        return INVALID;
+      }
+      result = -result;
+    }
+    if (result < min || result > max) {
+      return INVALID;
+    }
+    integer = result;
+    return VALID;
+  }
+
+  /**
+   * Parses {@code value} as a decimal number, as {@link org.apache.commons.validator.routines.DoubleValidator} does
+   *
+   * @param value  the value to parse
+   * @param locale the locale of the value, or {@code null} for the default one
+   * @return {@link #VALID} if {@code value} is a decimal number, which is then available from {@link #getDecimal()},
+   *         {@link #INVALID} if it is not, or {@link #UNDECIDED} if it has to be parsed by a {@link DecimalFormat}
+   */
+  public int parseDecimal(String value, Locale locale) {
+    if (value == null || value.isEmpty()) {
+      return INVALID;
+    }
+    int start = start(value);
+    if (start < 0) {
+      return UNDECIDED;
+    }
+    char separator = NumberSymbols.of(locale).getPlainDecimalSeparator();
+    if (separator == 0) {
+      return UNDECIDED;
+    }
+    boolean negative = start > 0;
+
+    long mantissa = 0;
+    int digits = 0;
+    int scale = -1;
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == separator) {
+        if (scale >= 0) {
+          // the second separator ends the number, and is left unparsed
+          return INVALID;
+        }
+        scale = 0;
+      } else if (c >= '0' && c <= '9') {
+        if (mantissa > 0 || c > '0') {
+          digits++;
+        }
+        if (digits <= MAX_EXACT_DIGITS) {
+          mantissa = mantissa * 10 + (c - '0');
+        }
+        if (scale >= 0) {
+          scale++;
+        }
+      } else {
+        return UNDECIDED;
+      }
+    }
+
+    if (digits <= MAX_EXACT_DIGITS && scale < POWERS_OF_TEN.length) {
+      // both operands are exact, so the quotient is correctly rounded
+      decimal = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+      if (negative) {
+        decimal = -decimal;
+      }
+    } else {
+      decimal = Double.parseDouble(separator == '.' ? value : value.replace(separator, '.'));
+    }
+    return VALID;
+  }
+
+  /**
+   * @return the integer parsed by the last successful {@link #parseInteger(String, Locale, long, long)}
+   */
+  public long getInteger() {
+    return integer;
+  }
+
+  /**
+   * @return the number parsed by the last successful {@link #parseDecimal(String, Locale)}
+   */
+  public double getDecimal() {
+    return decimal;
+  }
+
+  /**
+   * @return the index of the first digit of the non empty {@code value}, or {@code -1} if it does not start as a plain number
+   */
+  private static int start(String value) {
+    if (value.charAt(0) <= ' ' || value.charAt(value.length() - 1) <= ' ') {
+      // the validators trim the value
+      return -1;
+    }
+    int start = value.charAt(0) == '-' ? 1 : 0;
+    if (start == value.length() || value.charAt(start) < '0' || value.charAt(start) > '9') {
+      return -1;
+    }
+    return start;
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import org.mule.extension.validation.api.NumberType;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.Format;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * Exact parser of {@link NumberType#BIG_DECIMAL} and {@link NumberType#BIG_INTEGER} values, which checks their scale and
+ * precision before creating them.
+ * <p/>
+ * Without a pattern, values are an optional minus sign, digits with optional grouping separators, and for decimals an optional
+ * decimal separator followed by digits, with the symbols of the locale. They are scanned once to count their digits, and are
+ * only turned into a {@link BigDecimal} when within the limits. With a pattern, they are parsed by a {@link DecimalFormat}
+ * which yields {@link BigDecimal}s, once their digits are counted.
+ * <p/>
+ * Whatever the limits, values of more than {@link #MAX_DIGITS} digits are rejected, so that huge values cannot exhaust the
+ * memory or CPU.
+ * <p/>
+ * Instances are not thread safe.
+ *
+ * @since 3.0
+ */
+public final class BigNumberParser {
+
+  public static final int VALID = 1;
+  public static final int INVALID = 0;
+  public static final int SCALE_EXCEEDED = 2;
+  public static final int PRECISION_EXCEEDED = 3;
+
+  /**
+   * The largest number of digits a value can have
+   */
+  public static final int MAX_DIGITS = 1000;
+
+  private static final BiFunction<String, Locale, Format> DECIMAL_FORMATS =
+      (pattern, locale) -> bigFormat(pattern, locale, false);
+  private static final BiFunction<String, Locale, Format> INTEGER_FORMATS =
+      (pattern, locale) -> bigFormat(pattern, locale, true);
+
+  private final NumberType numberType;
+
+  private Number value;
+  private int scale;
+  private int precision;
+
+  /**
+   * @param numberType either {@link NumberType#BIG_DECIMAL} or {@link NumberType#BIG_INTEGER}
+   */
+  public BigNumberParser(NumberType numberType) {
+    if (numberType != NumberType.BIG_DECIMAL && numberType != NumberType.BIG_INTEGER) {
+      throw new IllegalArgumentException("Not a big number type: " + numberType);
+    }
+    this.numberType = numberType;
+  }
+
+  /**
+   * Parses {@code text}
+   *
+   * @param text         the text to parse
+   * @param pattern      the {@link DecimalFormat} pattern of the text, or {@code null} for a plain number
+   * @param locale       the locale of the text, or {@code null} for the default one
+   * @param maxScale     the largest number of digits after the decimal separator, or {@code null} for no limit
+   * @param maxPrecision the largest number of significant digits, or {@code null} for no limit other than
+   *                     {@link #MAX_DIGITS}
+   * @return {@link #VALID} if {@code text} is a number within the limits, which is then available from {@link #getValue()},
+   *         {@link #SCALE_EXCEEDED} or {@link #PRECISION_EXCEEDED} if it is a number beyond them, or {@link #INVALID} if it is
+   *         not a number or has more than {@link #MAX_DIGITS} digits
+   * @throws IllegalArgumentException if {@code pattern} is not a valid one
+   */
+  public int parse(String text, String pattern, Locale locale, Integer maxScale, Integer maxPrecision) {
+    value = null;
+    scale = 0;
+    precision = 0;
+    if (text == null) {
+      return INVALID;
+    }
+    int start = 0;
+    int end = text.length();
+    while (start < end && text.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && text.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return INVALID;
+    }
+
+    int result = pattern == null ? scan(text, start, end, locale) : parse(text, start, end, pattern, locale);
+    if (result != VALID) {
+      return result;
+    }
+    if (maxScale != null && scale > maxScale) {
+      value = null;
+      return SCALE_EXCEEDED;
+    }
+    if (maxPrecision != null && precision > maxPrecision) {
+      value = null;
+      return PRECISION_EXCEEDED;
+    }
+    if (pattern == null) {
+      value = create(text, start, end, locale);
+    }
+    if (numberType == NumberType.BIG_INTEGER) {
+      value = ((BigDecimal) value).toBigIntegerExact();
+    }
+    return VALID;
+  }
+
+  /**
+   * @return the value of the last parsed text, a {@link BigDecimal} or a {@link java.math.BigInteger} depending on the
+   *         {@link NumberType}, or {@code null} if it was not {@link #VALID}
+   */
+  public Number getValue() {
+    return value;
+  }
+
+  /**
+   * @return the number of digits after the decimal separator of the last parsed number
+   */
+  public int getScale() {
+    return scale;
+  }
+
+  /**
+   * @return the number of significant digits of the last parsed number, that is without its leading zeros
+   */
+  public int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * Counts the digits of a plain number between {@code start} and {@code end}, without creating it
+   */
+  private int scan(String text, int start, int end, Locale locale) {
+    NumberSymbols symbols = NumberSymbols.of(locale);
+    char decimalSeparator = symbols.getDecimalSeparator();
+    char groupingSeparator = symbols.getGroupingSeparator();
+
+    int i = start;
+    if (text.charAt(i) == '-' || text.charAt(i) == symbols.getMinusSign()) {
+      i++;
+    }
+    int digits = 0;
+    int significant = 0;
+    boolean fraction = false;
+    boolean afterDigit = false;
+    for (; i < end; i++) {
+      char c = text.charAt(i);
+      int digit = Character.digit(c, 10);
+      if (digit >= 0) {
+        if (++digits > MAX_DIGITS) {
+          return INVALID;
+        }
+        if (significant > 0 || digit > 0) {
+          significant++;
+        }
+        if (fraction) {
+          scale++;
+        }
+        afterDigit = true;
+      } else if (c == groupingSeparator && !fraction) {
+        // between digits only
+        if (!afterDigit || i + 1 == end || Character.digit(text.charAt(i + 1), 10) < 0) {
+          return INVALID;
+        }
+        afterDigit = false;
+      } else if (c == decimalSeparator && !fraction && numberType == NumberType.BIG_DECIMAL) {
+        fraction = true;
+      } else {
+        return INVALID;
+      }
+    }
+    if (digits == 0) {
+      return INVALID;
+    }
+    precision = Math.max(significant, 1);
+    return VALID;
+  }
+
+  /**
+   * Creates the plain number between {@code start} and {@code end}, once {@link #scan(String, int, int, Locale)} accepted it
+   */
+  private static BigDecimal create(String text, int start, int end, Locale locale) {
+    NumberSymbols symbols = NumberSymbols.of(locale);
+    char[] chars = new char[end - start];
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      int digit = Character.digit(c, 10);
+      if (digit >= 0) {
+        chars[length++] = (char) ('0' + digit);
+      } else if (c == symbols.getDecimalSeparator()) {
+        chars[length++] = '.';
+      } else if (c != symbols.getGroupingSeparator()) {
+        // the minus sign, as grouping separators are dropped
+        chars[length++] = '-';
+      }
+    }
+    return new BigDecimal(chars, 0, length);
+  }
+
+  /**
+   * Parses the number between {@code start} and {@code end} with the {@link DecimalFormat} of {@code pattern}, once its digits
+   * are counted
+   */
+  private int parse(String text, int start, int end, String pattern, Locale locale) {
+    int digits = 0;
+    for (int i = start; i < end; i++) {
+      if (Character.isDigit(text.charAt(i)) && ++digits > MAX_DIGITS) {
+        return INVALID;
+      }
+    }
+
+    DecimalFormat format = (DecimalFormat) NumberFormatCache
+        .get(numberType == NumberType.BIG_INTEGER ? INTEGER_FORMATS : DECIMAL_FORMATS, pattern, locale);
+    ParsePosition position = new ParsePosition(start);
+    Number parsed = format.parse(text, position);
+    if (position.getErrorIndex() >= 0 || position.getIndex() != end || !(parsed instanceof BigDecimal)) {
+      // infinities and NaN are parsed into doubles
+      return INVALID;
+    }
+
+    BigDecimal decimal = (BigDecimal) parsed;
+    // an exponent can make a few digits into a huge number
+    int integerDigits = decimal.precision() - decimal.scale();
+    if (integerDigits > MAX_DIGITS) {
+      return INVALID;
+    }
+    if (numberType == NumberType.BIG_INTEGER && decimal.scale() > 0) {
+      decimal = decimal.stripTrailingZeros();
+      if (decimal.scale() > 0) {
+        // a multiplier made a fraction
+        return INVALID;
+      }
+    }
+    scale = Math.max(decimal.scale(), 0);
+    precision = decimal.signum() == 0 ? 1 : Math.max(decimal.precision(), integerDigits);
+    value = decimal;
+    return VALID;
+  }
+
+  private static Format bigFormat(String pattern, Locale locale, boolean integerOnly) {
+    DecimalFormat format = new DecimalFormat(pattern, locale == null ? DecimalFormatSymbols.getInstance()
+        : DecimalFormatSymbols.getInstance(locale));
+    format.setParseBigDecimal(true);
+    format.setParseIntegerOnly(integerOnly);
+    return format;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import static org.apache.commons.validator.routines.AbstractNumberValidator.STANDARD_FORMAT;
+
+import org.mule.extension.validation.internal.BoundedCache;
+
+import java.text.Format;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+import org.apache.commons.validator.routines.DoubleValidator;
+import org.apache.commons.validator.routines.FloatValidator;
+import org.apache.commons.validator.routines.IntegerValidator;
+import org.apache.commons.validator.routines.LongValidator;
+import org.apache.commons.validator.routines.ShortValidator;
+
+/**
+ * A {@link BoundedCache} of the {@link Format}s the commons number validators and the {@link BigNumberParser} parse with, keyed
+ * on the factory of the format, the pattern and the {@link Locale}.
+ * <p/>
+ * The commons validators build a new {@link java.text.DecimalFormat} on every validation, which costs far more than the parse
+ * itself. The validators exposed here, which behave as the {@code getInstance()} ones, instead build each format once and
+ * give every thread its own copy of it, as formats are not thread safe.
+ *
+ * @since 3.0
+ */
+public final class NumberFormatCache {
+
+  public static final int CAPACITY = 256;
+
+  private static final BoundedCache<ThreadLocal<Format>> FORMATS = new BoundedCache<>(CAPACITY, key -> {
+    Format prototype = key.<BiFunction<String, Locale, Format>>get(0).apply(key.get(1), key.get(2));
+    return ThreadLocal.withInitial(() -> (Format) prototype.clone());
+  });
+
+  public static final IntegerValidator INTEGER = new IntegerValidator(true, STANDARD_FORMAT) {
+
+    private final BiFunction<String, Locale, Format> factory = super::getFormat;
+
+    @Override
+    protected Format getFormat(String pattern, Locale locale) {
+      return get(factory, pattern, locale);
+    }
+  };
+
+  public static final LongValidator LONG = new LongValidator(true, STANDARD_FORMAT) {
+
+    private final BiFunction<String, Locale, Format> factory = super::getFormat;
+
+    @Override
+    protected Format getFormat(String pattern, Locale locale) {
+      return get(factory, pattern, locale);
+    }
+  };
+
+  public static final ShortValidator SHORT = new ShortValidator(true, STANDARD_FORMAT) {
+
+    private final BiFunction<String, Locale, Format> factory = super::getFormat;
+
+    @Override
+    protected Format getFormat(String pattern, Locale locale) {
+      return get(factory, pattern, locale);
+    }
+  };
+
+  public static final DoubleValidator DOUBLE = new DoubleValidator(true, STANDARD_FORMAT) {
+
+    private final BiFunction<String, Locale, Format> factory = super::getFormat;
+
+    @Override
+    protected Format getFormat(String pattern, Locale locale) {
+      return get(factory, pattern, locale);
+    }
+  };
+
+  public static final FloatValidator FLOAT = new FloatValidator(true, STANDARD_FORMAT) {
+
+    private final BiFunction<String, Locale, Format> factory = super::getFormat;
+
+    @Override
+    protected Format getFormat(String pattern, Locale locale) {
+      return get(factory, pattern, locale);
+    }
+  };
+
+  private NumberFormatCache() {}
+
+  /**
+   * Returns the current thread's copy of the format {@code factory} creates for {@code pattern} and {@code locale}, creating it
+   * if it is not cached
+   *
+   * @param factory a factory held for as long as its formats are used, as it is part of the key
+   * @throws IllegalArgumentException if {@code pattern} is not a valid one
+   */
+  static Format get(BiFunction<String, Locale, Format> factory, String pattern, Locale locale) {
+    return FORMATS.get(factory, pattern, locale).get();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import static java.util.Locale.Category.FORMAT;
+
+import org.mule.extension.validation.internal.BoundedCache;
+import org.mule.extension.validation.internal.Locales;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * The symbols of a {@link Locale} which the number parsers scan plain numbers with, taken once per locale from its
+ * {@link DecimalFormatSymbols} and its default {@link NumberFormat}.
+ *
+ * @since 3.0
+ */
+final class NumberSymbols {
+
+  private static final BoundedCache<NumberSymbols> SYMBOLS = new BoundedCache<>(Locales.CAPACITY,
+      key -> new NumberSymbols(key.get(0)));
+
+  private final char decimalSeparator;
+  private final char groupingSeparator;
+  private final char minusSign;
+  private final char plainDecimalSeparator;
+
+  private NumberSymbols(Locale locale) {
+    DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+    decimalSeparator = symbols.getDecimalSeparator();
+    groupingSeparator = symbols.getGroupingSeparator();
+    minusSign = symbols.getMinusSign();
+    plainDecimalSeparator = plainDecimalSeparator(locale);
+  }
+
+  /**
+   * @param locale a locale, or {@code null} for the default one
+   * @return the symbols of {@code locale}
+   */
+  static NumberSymbols of(Locale locale) {
+    return SYMBOLS.get(locale == null ? Locale.getDefault(FORMAT) : locale);
+  }
+
+  char getDecimalSeparator() {
+    return decimalSeparator;
+  }
+
+  char getGroupingSeparator() {
+    return groupingSeparator;
+  }
+
+  char getMinusSign() {
+    return minusSign;
+  }
+
+  /**
+   * @return the decimal separator of the default {@link NumberFormat} of the locale, or {@code 0} when it is not a plain one:
+   *         a {@code -} prefix for negative numbers, no other affixes, no multiplier, ASCII digits and an ASCII separator
+   */
+  char getPlainDecimalSeparator() {
+    return plainDecimalSeparator;
+  }
+
+  private static char plainDecimalSeparator(Locale locale) {
+    NumberFormat format = NumberFormat.getInstance(locale);
+    if (!(format instanceof DecimalFormat)) {
+      return 0;
+    }
+    DecimalFormat decimalFormat = (DecimalFormat) format;
+    DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+    char separator = symbols.getDecimalSeparator();
+    boolean plain = decimalFormat.getPositivePrefix().isEmpty() && decimalFormat.getPositiveSuffix().isEmpty()
+        && decimalFormat.getNegativePrefix().equals("-") && decimalFormat.getNegativeSuffix().isEmpty()
+        && decimalFormat.getMultiplier() == 1 && symbols.getZeroDigit() == '0'
+        && separator > ' ' && separator < 0x7f && separator != '-' && (separator < '0' || separator > '9');
+    return plain ? separator : 0;
+  }
+}
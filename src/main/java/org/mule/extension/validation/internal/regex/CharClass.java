@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.lang.Character.MAX_CODE_POINT;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of code points, held as sorted and disjoint ranges plus a bitmap of its ASCII members.
+ *
+ * @since 3.0
+ */
+final class CharClass {
+
+  /**
+   * What {@code .} matches: anything but a line terminator
+   */
+  static final CharClass DOT = new Builder().add('\n').add('\r').add('\u0085').add('\u2028', '\u2029').build().negate();
+  static final CharClass DIGIT = new Builder().add('0', '9').build();
+  static final CharClass WORD = new Builder().add('a', 'z').add('A', 'Z').add('_').add('0', '9').build();
+  static final CharClass SPACE = new Builder().add(' ').add('\t').add('\n').add('\u000B').add('\f').add('\r').build();
+
+  // starts and ends (inclusive) of the ranges, interleaved
+  private final int[] ranges;
+  private final long asciiLow;
+  private final long asciiHigh;
+
+  private CharClass(int[] ranges) {
+    this.ranges = ranges;
+    long low = 0;
+    long high = 0;
+    for (int i = 0; i < ranges.length && ranges[i] < 128; i += 2) {
+      for (int c = ranges[i]; c <= ranges[i + 1] && c < 128; c++) {
+        if (c < 64) {
+          low |= 1L << c;
+        } else {
+          high |= 1L << (c - 64);
+        }
+      }
+    }
+    this.asciiLow = low;
+    this.asciiHigh = high;
+  }
+
+  boolean contains(int c) {
+    if (c < 64) {
+      return (asciiLow & (1L << c)) != 0;
+    }
+    if (c < 128) {
+      return (asciiHigh & (1L << (c - 64))) != 0;
+    }
+    int low = 0;
+    int high = ranges.length / 2 - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (c < ranges[middle * 2]) {
+        high = middle - 1;
+      } else if (c > ranges[middle * 2 + 1]) {
+        low = middle + 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the code points which are not in this class
+   */
+  CharClass negate() {
+    Builder builder = new Builder();
+    int next = 0;
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (ranges[i] > next) {
+        builder.add(next, ranges[i] - 1);
+      }
+      next = ranges[i + 1] + 1;
+    }
+    if (next <= MAX_CODE_POINT) {
+      builder.add(next, MAX_CODE_POINT);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Adds the other case of every ASCII letter in the class, as {@link java.util.regex.Pattern#CASE_INSENSITIVE} does when
+   * Unicode case folding is not enabled
+   */
+  CharClass foldAsciiCase() {
+    Builder builder = new Builder().addAll(this);
+    for (int c = 'a'; c <= 'z'; c++) {
+      int upper = c - 'a' + 'A';
+      if (contains(c) || contains(upper)) {
+        builder.add(c).add(upper);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return the only code point of the class, or {@code -1} if it has none or several
+   */
+  int single() {
+    return ranges.length == 2 && ranges[0] == ranges[1] ? ranges[0] : -1;
+  }
+
+  static final class Builder {
+
+    private int[] ranges = new int[16];
+    private int size;
+
+    Builder add(int c) {
+      return add(c, c);
+    }
+
+    Builder add(int start, int end) {
+      if (size == ranges.length) {
+        ranges = Arrays.copyOf(ranges, size * 2);
+      }
+      ranges[size++] = start;
+      ranges[size++] = end;
+      return this;
+    }
+
+    Builder addAll(CharClass other) {
+      for (int i = 0; i < other.ranges.length; i += 2) {
+        add(other.ranges[i], other.ranges[i + 1]);
+      }
+      return this;
+    }
+
+    CharClass build() {
+      int count = size / 2;
+      long[] packed = new long[count];
+      for (int i = 0; i < count; i++) {
+        packed[i] = (long) ranges[i * 2] << 32 | ranges[i * 2 + 1];
+      }
+      Arrays.sort(packed);
+
+      int[] merged = new int[size];
+      int length = 0;
+      for (long range : packed) {
+        int start = (int) (range >>> 32);
+        int end = (int) range;
+        if (length > 0 && start <= merged[length - 1] + 1) {
+          merged[length - 1] = Math.max(merged[length - 1], end);
+        } else {
+          merged[length++] = start;
+          merged[length++] = end;
+        }
+      }
+      return new CharClass(Arrays.copyOf(merged, length));
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+/**
+ * A regular expression compiled for one of the {@link org.mule.extension.validation.api.RegexEngine}s. Implementations are
+ * immutable and thread safe.
+ *
+ * @since 3.0
+ */
+public interface CompiledRegex {
+
+  /**
+   * @return the expression this was compiled from
+   */
+  String pattern();
+
+  /**
+   * @param input the text to test
+   * @return whether the whole {@code input} matches the expression
+   */
+  boolean matches(CharSequence input);
+
+  /**
+   * As {@link #matches(CharSequence)}, aborting once the match took {@code maxSteps} steps
+   *
+   * @param input    the text to test
+   * @param maxSteps how many characters the match can read, counting each time the same one is read again
+   * @return whether the whole {@code input} matches the expression
+   * @throws RegexBudgetExceededException if the match did not complete within {@code maxSteps}
+   */
+  boolean matches(CharSequence input, long maxSteps);
+}
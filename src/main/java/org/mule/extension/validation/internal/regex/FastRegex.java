@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import org.mule.extension.validation.internal.regex.RegexSyntax.Assertion;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Chars;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Concatenation;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Node;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Repetition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link CompiledRegex} for the simplest shapes of expressions, which never enters a regex engine: literals such as
+ * {@code ABC-123}, prefixes such as {@code ^ABC-.*}, suffixes such as {@code .*\.log}, runs of a class such as
+ * {@code ^[0-9]{10}$}, and combinations of them such as {@code ORD-\d{6}}.
+ * <p/>
+ * Such an expression is a sequence of classes, each repeated a fixed number of times but at most one, whose repetition may
+ * vary. The code points before the varying class are checked from the start of the input, those after it from the end, and
+ * the ones left must all be in the varying class, so each code point is looked at once. Literals which are the whole
+ * expression are compared with {@link String#contentEquals(CharSequence)}.
+ * <p/>
+ * As the whole input must match, {@code ^} and {@code \A} at the start of the expression and {@code $}, {@code \Z} and
+ * {@code \z} at its end do not change what matches, and are ignored.
+ *
+ * @since 3.0
+ */
+final class FastRegex implements CompiledRegex {
+
+  private final String pattern;
+
+  /**
+   * The whole expression when it is a literal, {@code null} otherwise
+   */
+  private final String literal;
+
+  private final CharClass[] head;
+  private final CharClass[] tail;
+  private final CharClass middle;
+  private final int minMiddle;
+  private final int maxMiddle;
+
+  private FastRegex(String pattern, String literal, CharClass[] head, CharClass middle, int minMiddle, int maxMiddle,
+                    CharClass[] tail) {
+    this.pattern = pattern;
+    this.literal = literal;
+    this.head = head;
+    this.middle = middle;
+    this.minMiddle = minMiddle;
+    this.maxMiddle = maxMiddle;
+    this.tail = tail;
+  }
+
+  /**
+   * Compiles {@code regex} if it has one of the shapes this class matches
+   *
+   * @param regex         a valid regular expression
+   * @param caseSensitive whether to match case sensitively
+   * @return a new {@link FastRegex}, or {@code null} if the expression has another shape
+   */
+  static FastRegex compile(String regex, boolean caseSensitive) {
+    Node root;
+    try {
+      root = RegexSyntax.parse(regex, caseSensitive);
+    } catch (UnsupportedOperationException e) {
+      return null;
+    }
+
+    List<Node> nodes = new ArrayList<>();
+    flatten(root, nodes);
+    int start = 0;
+    while (start < nodes.size() && isAssertion(nodes.get(start), Assertion.BEGIN)) {
+      start++;
+    }
+    int end = nodes.size();
+    while (end > start && nodes.get(end - 1) instanceof Assertion && !isAssertion(nodes.get(end - 1), Assertion.BEGIN)) {
+      end--;
+    }
+
+    List<CharClass> head = new ArrayList<>();
+    List<CharClass> tail = new ArrayList<>();
+    CharClass middle = null;
+    int minMiddle = 0;
+    int maxMiddle = 0;
+    for (Node node : nodes.subList(start, end)) {
+      CharClass chars;
+      int min;
+      int max;
+      if (node instanceof Chars) {
+        chars = ((Chars) node).chars;
+        min = 1;
+        max = 1;
+      } else if (node instanceof Repetition && ((Repetition) node).node instanceof Chars) {
+        Repetition repetition = (Repetition) node;
+        chars = ((Chars) repetition.node).chars;
+        min = repetition.min;
+        max = repetition.max;
+      } else {
+        return null;
+      }
+
+      if (min == max) {
+        List<CharClass> fixed = middle == null ? head : tail;
+        for (int i = 0; i < min; i++) {
+          fixed.add(chars);
+        }
+      } else if (middle == null) {
+        middle = chars;
+        minMiddle = min;
+        maxMiddle = max;
+      } else {
+        return null;
+      }
+    }
+
+    return new FastRegex(regex, middle == null ? literal(head) : null, head.toArray(new CharClass[0]), middle, minMiddle,
+                         maxMiddle, tail.toArray(new CharClass[0]));
+  }
+
+  private static void flatten(Node node, List<Node> nodes) {
+    if (node instanceof Concatenation) {
+      for (Node child : ((Concatenation) node).nodes) {
+        flatten(child, nodes);
+      }
+    } else {
+      nodes.add(node);
+    }
+  }
+
+  private static boolean isAssertion(Node node, int kind) {
+    return node instanceof Assertion && ((Assertion) node).kind == kind;
+  }
+
+  private static String literal(List<CharClass> classes) {
+    StringBuilder literal = new StringBuilder();
+    for (CharClass chars : classes) {
+      int single = chars.single();
+      if (single < 0) {
+        return null;
+      }
+      literal.appendCodePoint(single);
+    }
+    return literal.toString();
+  }
+
+  @Override
+  public String pattern() {
+    return pattern;
+  }
+
+  @Override
+  public boolean matches(CharSequence input) {
+    if (literal != null) {
+      return literal.contentEquals(input);
+    }
+
+    int start = 0;
+    for (CharClass chars : head) {
+      if (start == input.length()) {
+        return false;
+      }
+      int c = Character.codePointAt(input, start);
+      if (!chars.contains(c)) {
+        return false;
+      }
+      start += Character.charCount(c);
+    }
+
+    int end = input.length();
+    for (int i = tail.length - 1; i >= 0; i--) {
+      if (end == start) {
+        return false;
+      }
+      int c = Character.codePointBefore(input, end);
+      if (!tail[i].contains(c)) {
+        return false;
+      }
+      end -= Character.charCount(c);
+    }
+
+    if (middle == null) {
+      return start == end;
+    }
+    int count = 0;
+    while (start < end) {
+      int c = Character.codePointAt(input, start);
+      if (!middle.contains(c) || count == maxMiddle) {
+        return false;
+      }
+      count++;
+      start += Character.charCount(c);
+    }
+    return count >= minMiddle;
+  }
+
+  /**
+   * Matches as {@link #matches(CharSequence)}. Each character is read once at most, so the budget is not needed and ignored.
+   */
+  @Override
+  public boolean matches(CharSequence input, long maxSteps) {
+    return matches(input);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import java.util.regex.Pattern;
+
+/**
+ * A {@link CompiledRegex} run by {@link java.util.regex}
+ *
+ * @since 3.0
+ */
+final class JavaRegex implements CompiledRegex {
+
+  private final Pattern pattern;
+
+  JavaRegex(Pattern pattern) {
+    this.pattern = pattern;
+  }
+
+  @Override
+  public String pattern() {
+    return pattern.pattern();
+  }
+
+  @Override
+  public boolean matches(CharSequence input) {
+    return pattern.matcher(input).matches();
+  }
+
+  @Override
+  public boolean matches(CharSequence input, long maxSteps) {
+    return pattern.matcher(new StepBudgetCharSequence(input, maxSteps)).matches();
+  }
+}
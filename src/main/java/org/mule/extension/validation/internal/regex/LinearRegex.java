@@ -0,0 +1,561 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.lang.String.format;
+
+import org.mule.extension.validation.internal.regex.RegexSyntax.Alternation;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Assertion;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Chars;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Concatenation;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Node;
+import org.mule.extension.validation.internal.regex.RegexSyntax.Repetition;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link CompiledRegex} which matches in linear time, whatever the expression and the input.
+ * <p/>
+ * The expression is compiled into a nondeterministic automaton, which is simulated by following all its possible paths at
+ * once, one input code point at a time (Thompson's construction). Each code point is thus looked at once per state of the
+ * automaton at most, and there is no backtracking. In exchange, only the subset of the syntax described by {@link RegexSyntax}
+ * is supported.
+ * <p/>
+ * Several expressions can be joined with {@link #union(List)} into one automaton, which tells which of them match in a single
+ * pass over the input.
+ * <p/>
+ * As the input is read forwards only, {@link #matches(Reader)} reads it as it comes, keeping no more than the automaton's
+ * states and the few code points after the current one which {@code $} needs to look at.
+ *
+ * @since 3.0
+ */
+public final class LinearRegex implements CompiledRegex {
+
+  // bounds the cost per code point, counted repetitions being expanded
+  private static final int MAX_INSTRUCTIONS = 10000;
+
+  private static final int CHAR = 0;
+  private static final int CLASS = 1;
+  private static final int SPLIT = 2;
+  private static final int JUMP = 3;
+  private static final int ASSERT = 4;
+  private static final int MATCH = 5;
+
+  private static final int STREAM_BUFFER_SIZE = 8192;
+
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private final String pattern;
+  private final int[] opcodes;
+  private final int[] arguments;
+  private final int[] alternatives;
+  private final CharClass[] classes;
+  private final boolean hasAssertions;
+
+  private LinearRegex(String pattern, Program program) {
+    this(pattern, Arrays.copyOf(program.opcodes, program.size), Arrays.copyOf(program.arguments, program.size),
+         Arrays.copyOf(program.alternatives, program.size), program.classes.toArray(new CharClass[0]));
+  }
+
+  private LinearRegex(String pattern, int[] opcodes, int[] arguments, int[] alternatives, CharClass[] classes) {
+    this.pattern = pattern;
+    this.opcodes = opcodes;
+    this.arguments = arguments;
+    this.alternatives = alternatives;
+    this.classes = classes;
+    boolean hasAssertions = false;
+    for (int opcode : opcodes) {
+      hasAssertions |= opcode == ASSERT;
+    }
+    this.hasAssertions = hasAssertions;
+  }
+
+  /**
+   * Compiles {@code regex} for the linear engine. Matches are the same as those of {@link java.util.regex.Pattern} with the
+   * {@link java.util.regex.Pattern#CASE_INSENSITIVE} flag when not {@code caseSensitive}.
+   *
+   * @param regex         a valid regular expression
+   * @param caseSensitive whether to match case sensitively
+   * @return a new {@link LinearRegex}
+   * @throws UnsupportedOperationException if the expression uses constructs which cannot be matched in linear time, or is too
+   *                                       large
+   */
+  public static LinearRegex compile(String regex, boolean caseSensitive) {
+    Program program = new Program();
+    program.emit(RegexSyntax.parse(regex, caseSensitive));
+    program.add(MATCH, 0, 0);
+    return new LinearRegex(regex, program);
+  }
+
+  /**
+   * Joins {@code regexes} into one automaton, whose {@link #firstMatch(CharSequence)} is the index in {@code regexes} of the
+   * first one which matches
+   *
+   * @param regexes the expressions to join, at least one
+   * @return a new {@link LinearRegex}
+   */
+  static LinearRegex union(List<LinearRegex> regexes) {
+    int splits = regexes.size() - 1;
+    int size = splits;
+    int classCount = 0;
+    for (LinearRegex regex : regexes) {
+      size += regex.opcodes.length;
+      classCount += regex.classes.length;
+    }
+
+    int[] opcodes = new int[size];
+    int[] arguments = new int[size];
+    int[] alternatives = new int[size];
+    CharClass[] classes = new CharClass[classCount];
+    int[] starts = new int[regexes.size()];
+    int offset = splits;
+    int classOffset = 0;
+    for (int i = 0; i < regexes.size(); i++) {
+      LinearRegex regex = regexes.get(i);
+      starts[i] = offset;
+      for (int pc = 0; pc < regex.opcodes.length; pc++) {
+        int opcode = regex.opcodes[pc];
+        opcodes[offset + pc] = opcode;
+        switch (opcode) {
+          case SPLIT:
+            arguments[offset + pc] = regex.arguments[pc] + offset;
+            alternatives[offset + pc] = regex.alternatives[pc] + offset;
+            break;
+          case JUMP:
+            arguments[offset + pc] = regex.arguments[pc] + offset;
+            break;
+          case CLASS:
+            arguments[offset + pc] = regex.arguments[pc] + classOffset;
+            break;
+          case MATCH:
+            arguments[offset + pc] = i;
+            break;
+          default:
+            arguments[offset + pc] = regex.arguments[pc];
+        }
+      }
+      System.arraycopy(regex.classes, 0, classes, classOffset, regex.classes.length);
+      offset += regex.opcodes.length;
+      classOffset += regex.classes.length;
+    }
+
+    // a chain of splits leading to the start of each expression
+    for (int i = 0; i < splits; i++) {
+      opcodes[i] = SPLIT;
+      arguments[i] = starts[i];
+      alternatives[i] = i == splits - 1 ? starts[i + 1] : i + 1;
+    }
+
+    StringBuilder pattern = new StringBuilder();
+    for (LinearRegex regex : regexes) {
+      pattern.append(pattern.length() == 0 ? "" : "|").append(regex.pattern);
+    }
+    return new LinearRegex(pattern.toString(), opcodes, arguments, alternatives, classes);
+  }
+
+  @Override
+  public String pattern() {
+    return pattern;
+  }
+
+  @Override
+  public boolean matches(CharSequence input) {
+    return firstMatch(input) >= 0;
+  }
+
+  /**
+   * @param input the text to test
+   * @return for an automaton built by {@link #union(List)}, the index of the first expression which matches the whole
+   *         {@code input}. {@code 0} if the expression this was compiled from matches otherwise. {@code -1} if none matches.
+   */
+  int firstMatch(CharSequence input) {
+    int length = input.length();
+    Scratch scratch = SCRATCH.get();
+    int generation = scratch.reserve(opcodes.length, length + 1);
+    int[] current = scratch.current;
+    int[] next = scratch.next;
+    int[] marks = scratch.marks;
+    int[] stack = scratch.stack;
+
+    int currentSize = follow(0, hasAssertions ? assertions(input, 0) : 0, current, 0, marks, generation, stack);
+    int position = 0;
+    while (position < length && currentSize > 0) {
+      int c = Character.codePointAt(input, position);
+      int nextPosition = position + Character.charCount(c);
+      int assertions = hasAssertions ? assertions(input, nextPosition) : 0;
+      generation++;
+      int nextSize = 0;
+      for (int i = 0; i < currentSize; i++) {
+        int pc = current[i];
+        if (consumes(pc, c)) {
+          nextSize = follow(pc + 1, assertions, next, nextSize, marks, generation, stack);
+        }
+      }
+
+      int[] swap = current;
+      current = next;
+      next = swap;
+      currentSize = nextSize;
+      position = nextPosition;
+    }
+
+    return position < length ? -1 : firstMatch(current, currentSize);
+  }
+
+  /**
+   * Matches the text read from {@code reader}, as it is read. Reading stops as soon as the text cannot match anymore.
+   *
+   * @param reader the text to test, which is not closed
+   * @return whether the whole text matches the expression
+   * @throws IOException if the text cannot be read
+   */
+  public boolean matches(Reader reader) throws IOException {
+    StreamMatch match = new StreamMatch();
+    char[] buffer = new char[STREAM_BUFFER_SIZE];
+    int read;
+    while (!match.failed() && (read = reader.read(buffer)) != -1) {
+      match.feed(buffer, read);
+    }
+    return match.end() >= 0;
+  }
+
+  private boolean consumes(int pc, int c) {
+    int opcode = opcodes[pc];
+    return (opcode == CHAR && arguments[pc] == c) || (opcode == CLASS && classes[arguments[pc]].contains(c));
+  }
+
+  private int firstMatch(int[] states, int size) {
+    int first = -1;
+    for (int i = 0; i < size; i++) {
+      int pc = states[i];
+      if (opcodes[pc] == MATCH && (first < 0 || arguments[pc] < first)) {
+        first = arguments[pc];
+      }
+    }
+    return first;
+  }
+
+  /**
+   * Matches as {@link #matches(CharSequence)}. Each character is read a bounded number of times whatever the expression, so
+   * the budget is not needed and ignored.
+   */
+  @Override
+  public boolean matches(CharSequence input, long maxSteps) {
+    return matches(input);
+  }
+
+  /**
+   * Adds to {@code states} the instructions which consume input, or match, and are reachable from {@code start} without
+   * consuming input, at a position where the {@code assertions} hold. Instructions marked with {@code generation} are already
+   * in the list.
+   *
+   * @param assertions a bit per {@link Assertion} kind, set when it holds
+   * @return the new size of {@code states}
+   */
+  private int follow(int start, int assertions, int[] states, int size, int[] marks, int generation, int[] stack) {
+    int top = 0;
+    stack[top++] = start;
+    while (top > 0) {
+      int pc = stack[--top];
+      if (marks[pc] == generation) {
+        continue;
+      }
+      marks[pc] = generation;
+      switch (opcodes[pc]) {
+        case JUMP:
+          stack[top++] = arguments[pc];
+          break;
+        case SPLIT:
+          stack[top++] = alternatives[pc];
+          stack[top++] = arguments[pc];
+          break;
+        case ASSERT:
+          if ((assertions & 1 << arguments[pc]) != 0) {
+            stack[top++] = pc + 1;
+          }
+          break;
+        default:
+          states[size++] = pc;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * @return a bit per {@link Assertion} kind, set when it holds at {@code position} of {@code input}
+   */
+  private static int assertions(CharSequence input, int position) {
+    int length = input.length();
+    return assertions(position == 0, position == 0 ? -1 : input.charAt(position - 1),
+                      position < length ? input.charAt(position) : -1, position + 1 < length ? input.charAt(position + 1) : -1,
+                      position + 2 < length);
+  }
+
+  /**
+   * @param atStart  whether the position is the start of the input
+   * @param previous the character before the position, or {@code -1}
+   * @param first    the character at the position, or {@code -1} at the end of the input
+   * @param second   the character after it, or {@code -1}
+   * @param more     whether there are more characters after the {@code second}
+   * @return a bit per {@link Assertion} kind, set when it holds at the position
+   */
+  private static int assertions(boolean atStart, int previous, int first, int second, boolean more) {
+    int assertions = atStart ? 1 << Assertion.BEGIN : 0;
+    if (first < 0) {
+      return assertions | 1 << Assertion.END | 1 << Assertion.END_OF_LINE;
+    }
+    // as java.util.regex.Pattern's Dollar, without the MULTILINE and UNIX_LINES flags
+    boolean endOfLine;
+    if (second < 0) {
+      endOfLine = first == '\n' ? previous != '\r' : first == '\r' || first == '\u0085' || (first | 1) == '\u2029';
+    } else {
+      endOfLine = !more && first == '\r' && second == '\n';
+    }
+    return endOfLine ? assertions | 1 << Assertion.END_OF_LINE : assertions;
+  }
+
+  /**
+   * A match over a text given piece by piece. When the expression has assertions, each code point is matched once the three
+   * after it are known, or the text ended, as they tell whether {@code $} holds after it.
+   */
+  private final class StreamMatch {
+
+    private final int lookahead = hasAssertions ? 3 : 0;
+
+    private final int[] marks = new int[opcodes.length];
+    private final int[] stack = new int[opcodes.length * 2 + 1];
+    private int[] current = new int[opcodes.length];
+    private int[] next = new int[opcodes.length];
+    private int currentSize;
+    private int generation;
+    private boolean started;
+
+    private final int[] window = new int[4];
+    private int windowSize;
+    private int previous = -1;
+    private int highSurrogate = -1;
+
+    private void feed(char[] chars, int length) {
+      for (int i = 0; i < length; i++) {
+        char c = chars[i];
+        if (highSurrogate >= 0) {
+          int high = highSurrogate;
+          highSurrogate = -1;
+          if (Character.isLowSurrogate(c)) {
+            push(Character.toCodePoint((char) high, c));
+            continue;
+          }
+          push(high);
+        }
+        if (Character.isHighSurrogate(c)) {
+          highSurrogate = c;
+        } else {
+          push(c);
+        }
+      }
+    }
+
+    private boolean failed() {
+      return started && currentSize == 0;
+    }
+
+    /**
+     * @return the index of the first expression which matches, as {@link LinearRegex#firstMatch(CharSequence)}
+     */
+    private int end() {
+      if (highSurrogate >= 0) {
+        push(highSurrogate);
+        highSurrogate = -1;
+      }
+      if (!started) {
+        start();
+      }
+      while (windowSize > 0 && currentSize > 0) {
+        step();
+      }
+      return windowSize > 0 ? -1 : firstMatch(current, currentSize);
+    }
+
+    private void push(int c) {
+      window[windowSize++] = c;
+      if (!started && windowSize >= lookahead) {
+        start();
+      }
+      if (started && windowSize > lookahead) {
+        step();
+      }
+    }
+
+    private void start() {
+      started = true;
+      generation = 1;
+      currentSize = follow(0, hasAssertions ? assertions(true) : 0, current, 0, marks, generation, stack);
+    }
+
+    private void step() {
+      int c = window[0];
+      window[0] = window[1];
+      window[1] = window[2];
+      window[2] = window[3];
+      windowSize--;
+      previous = c;
+      if (currentSize == 0) {
+        return;
+      }
+
+      if (++generation == Integer.MAX_VALUE) {
+        Arrays.fill(marks, 0);
+        generation = 1;
+      }
+      int assertions = hasAssertions ? assertions(false) : 0;
+      int nextSize = 0;
+      for (int i = 0; i < currentSize; i++) {
+        int pc = current[i];
+        if (consumes(pc, c)) {
+          nextSize = follow(pc + 1, assertions, next, nextSize, marks, generation, stack);
+        }
+      }
+
+      int[] swap = current;
+      current = next;
+      next = swap;
+      currentSize = nextSize;
+    }
+
+    private int assertions(boolean atStart) {
+      return LinearRegex.assertions(atStart, previous, windowSize > 0 ? window[0] : -1, windowSize > 1 ? window[1] : -1,
+                                    windowSize > 2);
+    }
+  }
+
+  /**
+   * The state sets of a match, kept per thread so that matching does not allocate. An instruction is in the set of the current
+   * step when its mark is the current {@link #generation}, which grows at every step so that the marks never need clearing.
+   */
+  private static final class Scratch {
+
+    private int[] current = new int[0];
+    private int[] next = new int[0];
+    private int[] marks = new int[0];
+    private int[] stack = new int[1];
+    private int generation;
+
+    /**
+     * Makes room for a match on an automaton of {@code size} instructions, over {@code steps} generations
+     *
+     * @return the first generation of the match
+     */
+    private int reserve(int size, int steps) {
+      if (marks.length < size) {
+        current = new int[size];
+        next = new int[size];
+        marks = new int[size];
+        stack = new int[size * 2 + 1];
+        generation = 0;
+      } else if (generation > Integer.MAX_VALUE - steps) {
+        Arrays.fill(marks, 0);
+        generation = 0;
+      }
+      int first = generation + 1;
+      generation += steps;
+      return first;
+    }
+  }
+
+  /**
+   * The instructions of the automaton. {@link #SPLIT} continues at both its {@code argument} and its {@code alternative},
+   * {@link #JUMP} at its {@code argument}, the others at the next instruction.
+   */
+  private static final class Program {
+
+    private int[] opcodes = new int[64];
+    private int[] arguments = new int[64];
+    private int[] alternatives = new int[64];
+    private int size;
+    private final List<CharClass> classes = new ArrayList<>();
+
+    private int add(int opcode, int argument, int alternative) {
+      if (size == MAX_INSTRUCTIONS) {
+        throw new UnsupportedOperationException(format("expression larger than %d instructions", MAX_INSTRUCTIONS));
+      }
+      if (size == opcodes.length) {
+        opcodes = Arrays.copyOf(opcodes, size * 2);
+        arguments = Arrays.copyOf(arguments, size * 2);
+        alternatives = Arrays.copyOf(alternatives, size * 2);
+      }
+      opcodes[size] = opcode;
+      arguments[size] = argument;
+      alternatives[size] = alternative;
+      return size++;
+    }
+
+    private void emit(Node node) {
+      if (node instanceof Chars) {
+        CharClass chars = ((Chars) node).chars;
+        int single = chars.single();
+        if (single >= 0) {
+          add(CHAR, single, 0);
+        } else {
+          classes.add(chars);
+          add(CLASS, classes.size() - 1, 0);
+        }
+      } else if (node instanceof Concatenation) {
+        for (Node child : ((Concatenation) node).nodes) {
+          emit(child);
+        }
+      } else if (node instanceof Alternation) {
+        emitAlternation(((Alternation) node).alternatives);
+      } else if (node instanceof Repetition) {
+        emitRepetition((Repetition) node);
+      } else {
+        add(ASSERT, ((Assertion) node).kind, 0);
+      }
+    }
+
+    private void emitAlternation(List<Node> nodes) {
+      int[] jumps = new int[nodes.size() - 1];
+      for (int i = 0; i < nodes.size() - 1; i++) {
+        int split = add(SPLIT, size + 1, 0);
+        emit(nodes.get(i));
+        jumps[i] = add(JUMP, 0, 0);
+        alternatives[split] = size;
+      }
+      emit(nodes.get(nodes.size() - 1));
+      for (int jump : jumps) {
+        arguments[jump] = size;
+      }
+    }
+
+    private void emitRepetition(Repetition repetition) {
+      for (int i = 0; i < repetition.min; i++) {
+        emit(repetition.node);
+      }
+
+      if (repetition.max == Repetition.UNBOUNDED) {
+        int split = add(SPLIT, size + 1, 0);
+        emit(repetition.node);
+        add(JUMP, split, 0);
+        alternatives[split] = size;
+        return;
+      }
+
+      int optional = repetition.max - repetition.min;
+      int[] splits = new int[optional];
+      for (int i = 0; i < optional; i++) {
+        splits[i] = add(SPLIT, size + 1, 0);
+        emit(repetition.node);
+      }
+      for (int split : splits) {
+        alternatives[split] = size;
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+/**
+ * Thrown when matching a regular expression takes more steps than it was allowed to
+ *
+ * @since 3.0
+ */
+public class RegexBudgetExceededException extends RuntimeException {
+
+  private static final long serialVersionUID = 5317450891251624417L;
+
+  private final long maxSteps;
+
+  public RegexBudgetExceededException(long maxSteps) {
+    super("Regular expression match exceeded its budget of " + maxSteps + " steps");
+    this.maxSteps = maxSteps;
+  }
+
+  /**
+   * @return the number of steps the match was allowed to take
+   */
+  public long getMaxSteps() {
+    return maxSteps;
+  }
+}
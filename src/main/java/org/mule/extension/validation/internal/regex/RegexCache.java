@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static org.mule.extension.validation.api.RegexEngine.LINEAR;
+
+import static java.lang.String.format;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+
+import org.mule.extension.validation.api.RegexEngine;
+import org.mule.extension.validation.internal.BoundedCache;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link BoundedCache} of compiled regular expressions, keyed on the expression, its case sensitivity and the
+ * {@link RegexEngine} it runs on. {@link RegexSet}s are kept apart, with the same capacity.
+ * <p/>
+ * Whatever the engine, expressions simple enough for a {@link FastRegex} are compiled into one, except for streamed inputs,
+ * which are always matched by a {@link LinearRegex}.
+ * <p/>
+ * All the validations share the {@link #shared()} instance, whose capacity can only grow: each configuration asks for the
+ * capacity it needs through {@link #ensureCapacity(int)} and the largest one wins.
+ *
+ * @since 3.0
+ */
+public final class RegexCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RegexCache.class);
+
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private static final RegexCache SHARED = new RegexCache(DEFAULT_CAPACITY);
+
+  private volatile BoundedCache<CompiledRegex> patterns;
+  private volatile BoundedCache<RegexSet> sets;
+
+  /**
+   * @param capacity the maximum number of patterns to keep
+   */
+  public RegexCache(int capacity) {
+    this.patterns = new BoundedCache<>(capacity, key -> compile(key.get(0), key.get(1), key.get(2), key.get(3)));
+    this.sets = new BoundedCache<>(capacity, key -> RegexSet.compile(key.get(0), key.get(1)));
+  }
+
+  /**
+   * @return the cache shared by all the validations
+   */
+  public static RegexCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the compiled form of {@code regex}, compiling it if it is not cached
+   *
+   * @param regex         a regular expression
+   * @param caseSensitive whether the pattern should match case sensitively
+   * @param engine        the engine to run the expression on
+   * @return the compiled expression
+   * @throws IllegalArgumentException if {@code regex} is blank or not a valid expression
+   */
+  public CompiledRegex get(String regex, boolean caseSensitive, RegexEngine engine) {
+    return get(regex, caseSensitive, engine, false);
+  }
+
+  private CompiledRegex get(String regex, boolean caseSensitive, RegexEngine engine, boolean streaming) {
+    if (regex == null || regex.isEmpty()) {
+      throw new IllegalArgumentException("Regular expression is missing");
+    }
+    return patterns.get(regex, caseSensitive, engine, streaming);
+  }
+
+  /**
+   * Returns the compiled form of {@code regex} for {@link LinearRegex#matches(java.io.Reader)}, compiling it if it is not
+   * cached. Matching a stream never holds the whole text, so expressions which the {@link LinearRegex} does not support are
+   * rejected rather than matched against a text read into memory.
+   *
+   * @param regex         a regular expression
+   * @param caseSensitive whether the pattern should match case sensitively
+   * @return the compiled expression
+   * @throws IllegalArgumentException if {@code regex} is blank, not a valid expression, or uses constructs the
+   *                                  {@link LinearRegex} does not support, such as backreferences
+   */
+  public LinearRegex getStreaming(String regex, boolean caseSensitive) {
+    return (LinearRegex) get(regex, caseSensitive, LINEAR, true);
+  }
+
+  /**
+   * Returns the compiled form of {@code regexes}, compiling it if it is not cached
+   *
+   * @param regexes       the regular expressions
+   * @param caseSensitive whether the patterns should match case sensitively
+   * @return the compiled expressions
+   * @throws IllegalArgumentException if {@code regexes} is empty, or any of them is blank or not a valid expression
+   */
+  public RegexSet getSet(List<String> regexes, boolean caseSensitive) {
+    if (regexes == null || regexes.isEmpty()) {
+      throw new IllegalArgumentException("Regular expressions are missing");
+    }
+    return sets.get(regexes, caseSensitive);
+  }
+
+  /**
+   * Grows the cache so that it holds at least {@code capacity} patterns. The cached patterns and the statistics are kept.
+   *
+   * @param capacity the required capacity
+   */
+  public synchronized void ensureCapacity(int capacity) {
+    if (capacity <= patterns.capacity()) {
+      return;
+    }
+    patterns = patterns.withCapacity(capacity);
+    sets = sets.withCapacity(capacity);
+  }
+
+  /**
+   * @return the maximum number of patterns kept
+   */
+  public synchronized int capacity() {
+    return patterns.capacity();
+  }
+
+  /**
+   * @return the hit, miss and eviction counts since the cache was created
+   */
+  public synchronized CacheStats stats() {
+    return patterns.stats().plus(sets.stats());
+  }
+
+  private static CompiledRegex compile(String regex, boolean caseSensitive, RegexEngine engine, boolean streaming) {
+    // syntax errors are reported by Pattern whatever the engine
+    Pattern pattern = Pattern.compile(regex, caseSensitive ? 0 : CASE_INSENSITIVE);
+    if (streaming) {
+      try {
+        return LinearRegex.compile(regex, caseSensitive);
+      } catch (UnsupportedOperationException e) {
+        throw new IllegalArgumentException(format("Regular expression '%s' cannot be matched on a stream, it uses %s", regex,
+                                                  e.getMessage()),
+                                           e);
+      }
+    }
+    FastRegex fast = FastRegex.compile(regex, caseSensitive);
+    if (fast != null) {
+      return fast;
+    }
+    if (engine == LINEAR) {
+      try {
+        return LinearRegex.compile(regex, caseSensitive);
+      } catch (UnsupportedOperationException e) {
+        LOGGER.warn("Regular expression '{}' cannot run on the {} engine, it uses {}. It will run on the {} engine instead.",
+                    regex, LINEAR, e.getMessage(), RegexEngine.JAVA);
+      }
+    }
+    return new JavaRegex(pattern);
+  }
+}
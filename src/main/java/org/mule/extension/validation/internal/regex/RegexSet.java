@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+
+import org.mule.extension.validation.api.RegexEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A list of regular expressions tested together: the ones the {@link RegexEngine#LINEAR} engine supports are joined into one
+ * automaton, so that testing them takes a single pass over the input whatever their number. The others are tested one by one
+ * on {@link RegexEngine#JAVA}, and a warning is logged when they are compiled.
+ * <p/>
+ * Instances are immutable and thread safe.
+ *
+ * @since 3.0
+ */
+public final class RegexSet {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RegexSet.class);
+
+  private final List<String> regexes;
+  private final LinearRegex automaton;
+  private final int[] automatonIndexes;
+  private final Pattern[] fallbacks;
+  private final int[] fallbackIndexes;
+
+  private RegexSet(List<String> regexes, LinearRegex automaton, int[] automatonIndexes, Pattern[] fallbacks,
+                   int[] fallbackIndexes) {
+    this.regexes = regexes;
+    this.automaton = automaton;
+    this.automatonIndexes = automatonIndexes;
+    this.fallbacks = fallbacks;
+    this.fallbackIndexes = fallbackIndexes;
+  }
+
+  /**
+   * Compiles {@code regexes}
+   *
+   * @param regexes       the expressions, at least one
+   * @param caseSensitive whether they should match case sensitively
+   * @return a new {@link RegexSet}
+   * @throws IllegalArgumentException if {@code regexes} is empty, or any of them is blank or not a valid expression
+   */
+  public static RegexSet compile(List<String> regexes, boolean caseSensitive) {
+    if (regexes == null || regexes.isEmpty()) {
+      throw new IllegalArgumentException("Regular expressions are missing");
+    }
+
+    List<LinearRegex> linear = new ArrayList<>(regexes.size());
+    int[] linearIndexes = new int[regexes.size()];
+    List<Pattern> fallbacks = new ArrayList<>();
+    int[] fallbackIndexes = new int[regexes.size()];
+    for (int i = 0; i < regexes.size(); i++) {
+      String regex = regexes.get(i);
+      if (regex == null || regex.isEmpty()) {
+        throw new IllegalArgumentException("Regular expression is missing");
+      }
+      // syntax errors are reported by Pattern whatever the engine
+      Pattern pattern = Pattern.compile(regex, caseSensitive ? 0 : CASE_INSENSITIVE);
+      try {
+        LinearRegex compiled = LinearRegex.compile(regex, caseSensitive);
+        linearIndexes[linear.size()] = i;
+        linear.add(compiled);
+      } catch (UnsupportedOperationException e) {
+        LOGGER.warn("Regular expression '{}' cannot run on the {} engine, it uses {}. It will run on the {} engine instead.",
+                    regex, RegexEngine.LINEAR, e.getMessage(), RegexEngine.JAVA);
+        fallbackIndexes[fallbacks.size()] = i;
+        fallbacks.add(pattern);
+      }
+    }
+
+    return new RegexSet(unmodifiableList(new ArrayList<>(regexes)), linear.isEmpty() ? null : LinearRegex.union(linear),
+                        linearIndexes, fallbacks.toArray(new Pattern[0]), fallbackIndexes);
+  }
+
+  /**
+   * @return the expressions of this set
+   */
+  public List<String> regexes() {
+    return regexes;
+  }
+
+  /**
+   * @param input the text to test
+   * @return the index in {@link #regexes()} of the first expression which matches the whole {@code input}, or {@code -1} if
+   *         none does
+   */
+  public int firstMatch(CharSequence input) {
+    int first = automaton == null ? -1 : automaton.firstMatch(input);
+    if (first >= 0) {
+      first = automatonIndexes[first];
+    }
+    // the fallbacks are in the order of the expressions, so only those before the first match need testing
+    for (int i = 0; i < fallbacks.length && (first < 0 || fallbackIndexes[i] < first); i++) {
+      if (fallbacks[i].matcher(input).matches()) {
+        return fallbackIndexes[i];
+      }
+    }
+    return first;
+  }
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the subset of the {@link java.util.regex.Pattern} syntax which can be matched without backtracking: literals,
+ * character classes without intersections or nesting, the predefined {@code \d \w \s} classes and their negations, {@code .},
+ * groups, alternations, greedy and lazy quantifiers, and the {@code ^ $ \A \Z \z} anchors.
+ * <p/>
+ * Anything else, such as back references, look arounds, possessive quantifiers, inline flags or Unicode properties, is rejected
+ * with an {@link UnsupportedOperationException}. So is anything the parser is not sure to read as {@link java.util.regex.Pattern}
+ * does. Expressions are expected to have been compiled by {@link java.util.regex.Pattern} first, so syntax errors are not
+ * reported in detail.
+ *
+ * @since 3.0
+ */
+final class RegexSyntax {
+
+  // large counted repetitions are expanded into as many copies of the repeated expression
+  private static final int MAX_REPETITION = 1000;
+
+  private final int[] pattern;
+  private final boolean caseInsensitive;
+  private int cursor;
+
+  private RegexSyntax(String regex, boolean caseSensitive) {
+    this.pattern = regex.codePoints().toArray();
+    this.caseInsensitive = !caseSensitive;
+  }
+
+  /**
+   * @param regex         a regular expression
+   * @param caseSensitive whether it matches case sensitively, ASCII letters only are folded otherwise
+   * @return the tree of the expression
+   * @throws UnsupportedOperationException if the expression uses a construct which is not supported
+   */
+  static Node parse(String regex, boolean caseSensitive) {
+    RegexSyntax syntax = new RegexSyntax(regex, caseSensitive);
+    Node node = syntax.alternation();
+    if (syntax.cursor < syntax.pattern.length) {
+      throw syntax.unsupported("unbalanced ')'");
+    }
+    return node;
+  }
+
+  private Node alternation() {
+    List<Node> alternatives = new ArrayList<>();
+    alternatives.add(concatenation());
+    while (peek() == '|') {
+      cursor++;
+      alternatives.add(concatenation());
+    }
+    return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+  }
+
+  private Node concatenation() {
+    List<Node> nodes = new ArrayList<>();
+    while (cursor < pattern.length && peek() != '|' && peek() != ')') {
+      Node atom = atom();
+      nodes.add(atom instanceof Assertion ? atom : quantified(atom));
+    }
+    return nodes.size() == 1 ? nodes.get(0) : new Concatenation(nodes);
+  }
+
+  private Node atom() {
+    int c = next();
+    switch (c) {
+      case '(':
+        return group();
+      case '[':
+        return new Chars(charClass());
+      case '.':
+        return new Chars(CharClass.DOT);
+      case '^':
+        return new Assertion(Assertion.BEGIN);
+      case '$':
+        return new Assertion(Assertion.END_OF_LINE);
+      case '\\':
+        return escape();
+      case '*':
+      case '+':
+      case '?':
+      case '{':
+        throw unsupported(format("'%c' out of place", (char) c));
+      default:
+        return literal(c);
+    }
+  }
+
+  private Node group() {
+    if (peek() == '?') {
+      cursor++;
+      int kind = next();
+      if (kind == '<' && isLetter(peek())) {
+        // named group
+        while (cursor < pattern.length && peek() != '>') {
+          cursor++;
+        }
+        cursor++;
+      } else if (kind != ':') {
+        throw unsupported("special groups such as look arounds, atomic groups or inline flags");
+      }
+    }
+    Node node = alternation();
+    if (next() != ')') {
+      throw unsupported("unclosed group");
+    }
+    return node;
+  }
+
+  private Node quantified(Node atom) {
+    int min;
+    int max;
+    switch (peek()) {
+      case '*':
+        min = 0;
+        max = Repetition.UNBOUNDED;
+        break;
+      case '+':
+        min = 1;
+        max = Repetition.UNBOUNDED;
+        break;
+      case '?':
+        min = 0;
+        max = 1;
+        break;
+      case '{':
+        return counted(atom);
+      default:
+        return atom;
+    }
+    cursor++;
+    return repetition(atom, min, max);
+  }
+
+  private Node counted(Node atom) {
+    cursor++;
+    int min = number();
+    int max = min;
+    if (peek() == ',') {
+      cursor++;
+      max = peek() == '}' ? Repetition.UNBOUNDED : number();
+    }
+    if (next() != '}') {
+      throw unsupported("malformed repetition");
+    }
+    return repetition(atom, min, max);
+  }
+
+  private Node repetition(Node atom, int min, int max) {
+    if (peek() == '?') {
+      // lazy quantifiers find the same matches, only in another order
+      cursor++;
+    } else if (peek() == '+') {
+      throw unsupported("possessive quantifiers");
+    }
+    if (peek() == '*' || peek() == '+' || peek() == '?' || peek() == '{') {
+      throw unsupported("stacked quantifiers");
+    }
+    if (hasAssertion(atom)) {
+      // Pattern stops repeating a group once an iteration matches the empty string, so iterations cannot be reordered when
+      // what they match depends on where they start
+      throw unsupported("anchors inside repeated groups");
+    }
+    return new Repetition(atom, min, max);
+  }
+
+  private static boolean hasAssertion(Node node) {
+    if (node instanceof Assertion) {
+      return true;
+    }
+    if (node instanceof Concatenation) {
+      return ((Concatenation) node).nodes.stream().anyMatch(RegexSyntax::hasAssertion);
+    }
+    if (node instanceof Alternation) {
+      return ((Alternation) node).alternatives.stream().anyMatch(RegexSyntax::hasAssertion);
+    }
+    return node instanceof Repetition && hasAssertion(((Repetition) node).node);
+  }
+
+  private int number() {
+    int start = cursor;
+    int value = 0;
+    while (cursor < pattern.length && isDigit(peek())) {
+      value = value * 10 + next() - '0';
+      if (value > MAX_REPETITION) {
+        throw unsupported(format("repetitions of more than %d", MAX_REPETITION));
+      }
+    }
+    if (cursor == start) {
+      throw unsupported("malformed repetition");
+    }
+    return value;
+  }
+
+  private Node escape() {
+    int c = next();
+    switch (c) {
+      case 'A':
+        return new Assertion(Assertion.BEGIN);
+      case 'Z':
+        return new Assertion(Assertion.END_OF_LINE);
+      case 'z':
+        return new Assertion(Assertion.END);
+      case 'Q':
+        return quoted();
+      case -1:
+        throw unsupported("trailing '\\'");
+      default:
+        cursor--;
+        CharClass predefined = predefinedClass();
+        return predefined != null ? new Chars(predefined) : literal(escapedChar());
+    }
+  }
+
+  private Node quoted() {
+    List<Node> literals = new ArrayList<>();
+    while (cursor < pattern.length) {
+      if (peek() == '\\' && cursor + 1 < pattern.length && pattern[cursor + 1] == 'E') {
+        cursor += 2;
+        break;
+      }
+      literals.add(literal(next()));
+    }
+    if (peek() == '*' || peek() == '+' || peek() == '?' || peek() == '{') {
+      // Pattern would only repeat the last quoted character
+      throw unsupported("quantified quotations");
+    }
+    return new Concatenation(literals);
+  }
+
+  /**
+   * Reads the class after an opening {@code [}
+   */
+  private CharClass charClass() {
+    boolean negated = false;
+    if (peek() == '^') {
+      negated = true;
+      cursor++;
+    }
+    if (peek() == ']') {
+      throw unsupported("']' at the start of a character class");
+    }
+
+    CharClass.Builder builder = new CharClass.Builder();
+    while (peek() != ']') {
+      if (cursor >= pattern.length) {
+        throw unsupported("unclosed character class");
+      }
+      int c = next();
+      if (c == '[' || (c == '&' && peek() == '&')) {
+        throw unsupported("nested character classes or intersections");
+      }
+
+      int start;
+      if (c == '\\') {
+        CharClass predefined = predefinedClass();
+        if (predefined != null) {
+          builder.addAll(predefined);
+          continue;
+        }
+        start = escapedChar();
+      } else {
+        start = checked(c);
+      }
+
+      if (peek() == '-' && cursor + 1 < pattern.length && pattern[cursor + 1] != ']') {
+        cursor++;
+        int end = next();
+        if (end == '[') {
+          throw unsupported("nested character classes");
+        }
+        end = end == '\\' ? escapedChar() : checked(end);
+        builder.add(start, end);
+      } else {
+        builder.add(start);
+      }
+    }
+    cursor++;
+
+    CharClass chars = builder.build();
+    if (caseInsensitive) {
+      chars = chars.foldAsciiCase();
+    }
+    return negated ? chars.negate() : chars;
+  }
+
+  /**
+   * Reads the predefined class after a {@code \}, if there is one
+   *
+   * @return the class, or {@code null} if the escape is not a predefined class, in which case nothing is consumed
+   */
+  private CharClass predefinedClass() {
+    switch (peek()) {
+      case 'd':
+        cursor++;
+        return CharClass.DIGIT;
+      case 'D':
+        cursor++;
+        return CharClass.DIGIT.negate();
+      case 'w':
+        cursor++;
+        return CharClass.WORD;
+      case 'W':
+        cursor++;
+        return CharClass.WORD.negate();
+      case 's':
+        cursor++;
+        return CharClass.SPACE;
+      case 'S':
+        cursor++;
+        return CharClass.SPACE.negate();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Reads the character escaped after a {@code \}
+   */
+  private int escapedChar() {
+    int c = next();
+    switch (c) {
+      case 't':
+        return '\t';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 'f':
+        return '\f';
+      case 'a':
+        return '\u0007';
+      case 'e':
+        return '\u001B';
+      case '0':
+        return octal();
+      case 'x':
+        if (peek() == '{') {
+          cursor++;
+          int value = hex(-1);
+          if (next() != '}') {
+            throw unsupported("malformed hexadecimal escape");
+          }
+          return checked(value);
+        }
+        return hex(2);
+      case 'u':
+        return checked(hex(4));
+      default:
+        if (c < 0 || isLetter(c) || isDigit(c)) {
+          throw unsupported(format("the '\\%s' escape", c < 0 ? "" : new String(Character.toChars(c))));
+        }
+        return checked(c);
+    }
+  }
+
+  private int octal() {
+    int value = 0;
+    int digits = 0;
+    int maxDigits = peek() >= '0' && peek() <= '3' ? 3 : 2;
+    while (digits < maxDigits && peek() >= '0' && peek() <= '7') {
+      value = value * 8 + next() - '0';
+      digits++;
+    }
+    if (digits == 0) {
+      throw unsupported("malformed octal escape");
+    }
+    return value;
+  }
+
+  /**
+   * @param digits how many digits to read, or {@code -1} to read as many as there are
+   */
+  private int hex(int digits) {
+    int value = 0;
+    int read = 0;
+    while (read != digits && cursor < pattern.length && Character.digit(peek(), 16) >= 0) {
+      value = value * 16 + Character.digit(next(), 16);
+      read++;
+      if (value > Character.MAX_CODE_POINT) {
+        throw unsupported("hexadecimal escape out of range");
+      }
+    }
+    if (read == 0 || (digits > 0 && read != digits)) {
+      throw unsupported("malformed hexadecimal escape");
+    }
+    return value;
+  }
+
+  private Node literal(int c) {
+    checked(c);
+    if (caseInsensitive && isLetter(c)) {
+      return new Chars(new CharClass.Builder().add(c).build().foldAsciiCase());
+    }
+    return new Chars(new CharClass.Builder().add(c).build());
+  }
+
+  /**
+   * Rejects lone surrogates, which {@link java.util.regex.Pattern} matches against single {@code char}s rather than code points
+   */
+  private int checked(int c) {
+    if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+      throw unsupported("lone surrogates");
+    }
+    return c;
+  }
+
+  private int peek() {
+    return cursor < pattern.length ? pattern[cursor] : -1;
+  }
+
+  private int next() {
+    return cursor < pattern.length ? pattern[cursor++] : -1;
+  }
+
+  private static boolean isLetter(int c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private UnsupportedOperationException unsupported(String construct) {
+    return new UnsupportedOperationException(format("%s at index %d", construct, Math.max(cursor - 1, 0)));
+  }
+
+  /**
+   * A node of the tree of an expression
+   */
+  abstract static class Node {
+  }
+
+  /**
+   * Matches one code point of a class, literals being classes of a single code point
+   */
+  static final class Chars extends Node {
+
+    final CharClass chars;
+
+    Chars(CharClass chars) {
+      this.chars = chars;
+    }
+  }
+
+  static final class Concatenation extends Node {
+
+    final List<Node> nodes;
+
+    Concatenation(List<Node> nodes) {
+      this.nodes = nodes;
+    }
+  }
+
+  static final class Alternation extends Node {
+
+    final List<Node> alternatives;
+
+    Alternation(List<Node> alternatives) {
+      this.alternatives = alternatives;
+    }
+  }
+
+  static final class Repetition extends Node {
+
+    static final int UNBOUNDED = -1;
+
+    final Node node;
+    final int min;
+    final int max;
+
+    Repetition(Node node, int min, int max) {
+      this.node = node;
+      this.min = min;
+      this.max = max;
+    }
+  }
+
+  /**
+   * Matches the empty string at some positions only
+   */
+  static final class Assertion extends Node {
+
+    /**
+     * {@code ^} and {@code \A}: at the start of the input
+     */
+    static final int BEGIN = 0;
+
+    /**
+     * {@code $} and {@code \Z}: at the end of the input, or before the line terminator which ends it
+     */
+    static final int END_OF_LINE = 1;
+
+    /**
+     * {@code \z}: at the end of the input
+     */
+    static final int END = 2;
+
+    final int kind;
+
+    Assertion(int kind) {
+      this.kind = kind;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+/**
+ * A {@link CharSequence} which counts the characters read through {@link #charAt(int)} and throws a
+ * {@link RegexBudgetExceededException} once more than a given number were read.
+ * <p/>
+ * {@link java.util.regex.Matcher} reads its input through {@link #charAt(int)} on every step, so that a match which backtracks
+ * too much is aborted instead of running for as long as the expression and the input make it run.
+ *
+ * @since 3.0
+ */
+final class StepBudgetCharSequence implements CharSequence {
+
+  private final CharSequence delegate;
+  private final long maxSteps;
+  private long remainingSteps;
+
+  StepBudgetCharSequence(CharSequence delegate, long maxSteps) {
+    this.delegate = delegate;
+    this.maxSteps = maxSteps;
+    this.remainingSteps = maxSteps;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (--remainingSteps < 0) {
+      throw new RegexBudgetExceededException(maxSteps);
+    }
+    return delegate.charAt(index);
+  }
+
+  @Override
+  public int length() {
+    return delegate.length();
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return delegate.subSequence(start, end);
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.time;
+
+import static java.util.Objects.requireNonNull;
+
+import org.mule.extension.validation.internal.BoundedCache;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * A {@link BoundedCache} of {@link DateTimeFormatter}s, keyed on their pattern and {@link Locale}. Formatters are immutable and
+ * thread safe, so a single instance is shared by all the validations.
+ *
+ * @since 3.0
+ */
+public final class DateTimeFormatterCache {
+
+  public static final int CAPACITY = 256;
+
+  private static final BoundedCache<DateTimeFormatter> FORMATTERS = new BoundedCache<>(CAPACITY,
+      key -> DateTimeFormatter.ofPattern(key.get(0)).withLocale(key.get(1)));
+
+  private DateTimeFormatterCache() {}
+
+  /**
+   * Returns the formatter for {@code pattern} in {@code locale}, compiling it if it is not cached
+   *
+   * @param pattern a {@link DateTimeFormatter} pattern
+   * @param locale  the locale of the formatter
+   * @return a formatter equivalent to {@code DateTimeFormatter.ofPattern(pattern).withLocale(locale)}
+   * @throws IllegalArgumentException if {@code pattern} is not a valid one
+   */
+  public static DateTimeFormatter get(String pattern, Locale locale) {
+    requireNonNull(pattern, "pattern");
+    requireNonNull(locale, "locale");
+    return FORMATTERS.get(pattern, locale);
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.url;
+
+import org.mule.extension.validation.internal.domain.TopLevelDomains;
+import org.mule.extension.validation.internal.ip.IpLiteral;
+
+import java.util.List;
+
+/**
+ * Single pass parser of URLs, which splits a text into the components of RFC 3986 (scheme, authority, path, query and
+ * fragment) as its appendix B does for any text, and tells whether it is a well formed {@code URI} of its section 3, that is
+ * an absolute URI with an optional fragment.
+ * <p/>
+ * The components are held as indexes into the parsed text, so parsing never allocates, and instances can be reused by
+ * invoking {@link #parse(String)} again.
+ * <p/>
+ * Instances are not thread safe.
+ *
+ * @since 3.0
+ */
+public final class UrlSyntax {
+
+  private static final int NO_HOST = 0;
+  private static final int REG_NAME = 1;
+  private static final int IPV4 = 2;
+  private static final int IP_LITERAL = 3;
+
+  private static final int MAX_DOMAIN_LENGTH = 253;
+  private static final int MAX_LABEL_LENGTH = 63;
+
+  private static final byte UNRESERVED = 1;
+  private static final byte SUB_DELIM = 1 << 1;
+  private static final byte SCHEME = 1 << 2;
+  private static final byte LDH = 1 << 3;
+  private static final byte HEX = 1 << 4;
+
+  private static final byte[] CHARS = new byte[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      CHARS[c] |= UNRESERVED | SCHEME | LDH;
+      CHARS[Character.toUpperCase(c)] |= UNRESERVED | SCHEME | LDH;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      CHARS[c] |= UNRESERVED | SCHEME | LDH | HEX;
+    }
+    for (char c : "abcdefABCDEF".toCharArray()) {
+      CHARS[c] |= HEX;
+    }
+    for (char c : "-._~".toCharArray()) {
+      CHARS[c] |= UNRESERVED;
+    }
+    for (char c : "!$&'()*+,;=".toCharArray()) {
+      CHARS[c] |= SUB_DELIM;
+    }
+    for (char c : "+-.".toCharArray()) {
+      CHARS[c] |= SCHEME;
+    }
+    CHARS['-'] |= LDH;
+  }
+
+  private final IpLiteral ipLiteral = new IpLiteral();
+
+  private String text;
+  private int schemeEnd;
+  private int userInfoEnd;
+  private int hostStart;
+  private int hostEnd;
+  private int hostKind;
+  private int portStart;
+  private int authorityEnd;
+  private boolean wellFormed;
+
+  /**
+   * Parses the whole {@code text}
+   *
+   * @param text the text to parse
+   * @return whether the text is a well formed URI
+   */
+  public boolean parse(String text) {
+    this.text = text;
+    schemeEnd = -1;
+    userInfoEnd = -1;
+    hostStart = -1;
+    hostEnd = -1;
+    hostKind = NO_HOST;
+    portStart = -1;
+    authorityEnd = -1;
+
+    int length = text.length();
+    boolean valid = length > 0 && isLetter(text.charAt(0));
+    int i = 0;
+    for (; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == ':' || c == '/' || c == '?' || c == '#') {
+        break;
+      }
+      valid &= is(c, SCHEME);
+    }
+    if (i > 0 && i < length && text.charAt(i) == ':') {
+      schemeEnd = i++;
+    } else {
+      // a relative reference, whose components start from the beginning
+      valid = false;
+      i = 0;
+    }
+
+    if (i + 1 < length && text.charAt(i) == '/' && text.charAt(i + 1) == '/') {
+      i = parseAuthority(i + 2);
+      valid &= wellFormed;
+    }
+
+    int part = 0;
+    for (; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '%') {
+        valid &= isPercentEncoded(i);
+      } else if (c == '?' && part == 0) {
+        part = 1;
+      } else if (c == '#' && part < 2) {
+        part = 2;
+      } else {
+        valid &= isPathChar(c) || (part > 0 && c == '?');
+      }
+    }
+
+    wellFormed = valid;
+    return valid;
+  }
+
+  /**
+   * @return whether the last parsed text is a well formed URI
+   */
+  public boolean isWellFormed() {
+    return wellFormed;
+  }
+
+  /**
+   * @return whether the last parsed text starts with a scheme
+   */
+  public boolean hasScheme() {
+    return schemeEnd > 0;
+  }
+
+  /**
+   * @param schemes the schemes to look for
+   * @return whether the scheme of the last parsed text is one of {@code schemes}, ignoring case
+   */
+  public boolean isSchemeIn(List<String> schemes) {
+    if (schemeEnd < 0) {
+      return false;
+    }
+    for (String scheme : schemes) {
+      if (scheme.length() == schemeEnd && text.regionMatches(true, 0, scheme, 0, schemeEnd)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return whether the last parsed text has an authority with user information
+   */
+  public boolean hasUserInfo() {
+    return userInfoEnd >= 0;
+  }
+
+  /**
+   * @return how many characters the port of the last parsed text has, or {@code -1} if it has none
+   */
+  public int getPortLength() {
+    return portStart < 0 ? -1 : authorityEnd - portStart;
+  }
+
+  /**
+   * @return the index of the first character of the host of the last parsed text, or {@code -1} if it has no authority
+   */
+  public int getHostStart() {
+    return hostStart;
+  }
+
+  /**
+   * @return the index after the last character of the host of the last parsed text, or {@code -1} if it has no authority
+   */
+  public int getHostEnd() {
+    return hostEnd;
+  }
+
+  /**
+   * @return whether the host of the last parsed text is an IPv4 address or an IP literal in brackets
+   */
+  public boolean isHostIp() {
+    return hostKind == IPV4 || hostKind == IP_LITERAL;
+  }
+
+  /**
+   * @param domains the top level domains to accept
+   * @return whether the host of the last parsed text is a domain name: dot separated labels of letters, digits and hyphens,
+   *         which neither start nor end with a hyphen, with an optional trailing dot, whose last label is one of
+   *         {@code domains}
+   */
+  public boolean isHostDomain(TopLevelDomains domains) {
+    if (hostKind != REG_NAME) {
+      return false;
+    }
+    int end = hostEnd > hostStart && text.charAt(hostEnd - 1) == '.' ? hostEnd - 1 : hostEnd;
+    if (end - hostStart > MAX_DOMAIN_LENGTH) {
+      return false;
+    }
+    int labelStart = hostStart;
+    for (int i = hostStart; i <= end; i++) {
+      char c = i < end ? text.charAt(i) : '.';
+      if (c == '.') {
+        if (i == labelStart || i - labelStart > MAX_LABEL_LENGTH || text.charAt(labelStart) == '-' || text.charAt(i - 1) == '-') {
+          return false;
+        }
+        if (i < end) {
+          labelStart = i + 1;
+        }
+      } else if (!is(c, LDH)) {
+        return false;
+      }
+    }
+    return labelStart > hostStart && domains.contains(text, labelStart, end);
+  }
+
+  /**
+   * Parses the authority starting at {@code start}, setting {@link #wellFormed} to whether it is well formed
+   *
+   * @return the index after the authority
+   */
+  private int parseAuthority(int start) {
+    int length = text.length();
+    int end = start;
+    int at = -1;
+    while (end < length) {
+      char c = text.charAt(end);
+      if (c == '/' || c == '?' || c == '#') {
+        break;
+      }
+      if (c == '@') {
+        at = end;
+      }
+      end++;
+    }
+
+    boolean valid = true;
+    hostStart = start;
+    if (at >= 0) {
+      userInfoEnd = at;
+      hostStart = at + 1;
+      for (int i = start; i < at; i++) {
+        char c = text.charAt(i);
+        valid &= c == '%' ? isPercentEncoded(i) : c == ':' || is(c, UNRESERVED | SUB_DELIM);
+      }
+    }
+
+    hostEnd = end;
+    if (hostStart < end && text.charAt(hostStart) == '[') {
+      int close = text.indexOf(']', hostStart);
+      if (close < 0 || close >= end) {
+        valid = false;
+      } else {
+        hostEnd = close + 1;
+        if (isIpLiteral(hostStart + 1, close)) {
+          hostKind = IP_LITERAL;
+        } else {
+          valid = false;
+        }
+        if (hostEnd < end) {
+          valid &= text.charAt(hostEnd) == ':';
+          portStart = hostEnd + 1;
+        }
+      }
+    } else {
+      for (int i = hostStart; i < end; i++) {
+        char c = text.charAt(i);
+        if (c == ':') {
+          hostEnd = i;
+          portStart = i + 1;
+          break;
+        }
+        valid &= c == '%' ? isPercentEncoded(i) : is(c, UNRESERVED | SUB_DELIM);
+      }
+      if (hostEnd > hostStart) {
+        hostKind = ipLiteral.parse(text, hostStart, hostEnd) && !ipLiteral.hasLeadingZeros() ? IPV4 : REG_NAME;
+      }
+    }
+    if (portStart >= 0) {
+      for (int i = portStart; i < end; i++) {
+        char c = text.charAt(i);
+        valid &= c >= '0' && c <= '9';
+      }
+    }
+
+    authorityEnd = end;
+    wellFormed = valid;
+    return end;
+  }
+
+  private boolean isIpLiteral(int start, int end) {
+    if (start < end && (text.charAt(start) == 'v' || text.charAt(start) == 'V')) {
+      // IPvFuture
+      int dot = start + 1;
+      while (dot < end && is(text.charAt(dot), HEX)) {
+        dot++;
+      }
+      if (dot == start + 1 || dot >= end - 1 || text.charAt(dot) != '.') {
+        return false;
+      }
+      for (int i = dot + 1; i < end; i++) {
+        char c = text.charAt(i);
+        if (c != ':' && !is(c, UNRESERVED | SUB_DELIM)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return ipLiteral.parse(text, start, end) && ipLiteral.isIpv6() && !ipLiteral.isScoped()
+        && !(ipLiteral.hasEmbeddedIpv4() && ipLiteral.hasLeadingZeros());
+  }
+
+  private boolean isPercentEncoded(int i) {
+    return i + 2 < text.length() && is(text.charAt(i + 1), HEX) && is(text.charAt(i + 2), HEX);
+  }
+
+  private static boolean isPathChar(char c) {
+    return c == '/' || c == ':' || c == '@' || is(c, UNRESERVED | SUB_DELIM);
+  }
+
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean is(char c, int classes) {
+    return c < 128 && (CHARS[c] & classes) != 0;
+  }
+}
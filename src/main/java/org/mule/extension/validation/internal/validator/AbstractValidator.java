@@ -14,6 +14,7 @@ import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.api.Validator;
 import org.mule.extension.validation.internal.ValidationContext;
 import org.mule.extension.validation.internal.ValidationMessages;
+import org.mule.extension.validation.internal.domain.TopLevelDomains;
 
 /**
  * Base class for all {@link Validator}s provided out of the box. Because this module provides out of the box validators which
@@ -39,6 +40,15 @@ abstract class AbstractValidator implements Validator {
     return validationContext.getMessages();
   }
 
+  /**
+   * Returns the top level domains to accept in domain names
+   *
+   * @return a {@link TopLevelDomains}
+   */
+  protected TopLevelDomains getTopLevelDomains() {
+    return validationContext.getTopLevelDomains();
+  }
+
   /**
    * Implementations need to implement this method to return the error message in case the validation failed
    *
@@ -11,10 +11,11 @@ import static org.mule.extension.validation.internal.ImmutableValidationResult.o
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.email.EmailSyntax;
 import org.mule.runtime.api.i18n.I18nMessage;
 
 /**
- * An {@link AbstractValidator} which verifies that a {@link #email} address is valid
+ * An {@link AbstractValidator} which verifies that a {@link #email} address is valid, as told by {@link EmailSyntax}
  *
  * @since 1.0
  */
@@ -29,11 +30,13 @@ public class EmailValidator extends AbstractValidator {
 
   @Override
   public ValidationResult validate() {
-    if (!email.trim().equals(email)) {
+    // rejects what String#trim() would remove, without allocating
+    int length = email.length();
+    if (length > 0 && (email.charAt(0) <= ' ' || email.charAt(length - 1) <= ' ')) {
       return fail();
     }
 
-    return org.apache.commons.validator.routines.EmailValidator.getInstance().isValid(email) ? ok() : fail();
+    return EmailSyntax.isValid(email, getTopLevelDomains()) ? ok() : fail();
   }
 
   @Override
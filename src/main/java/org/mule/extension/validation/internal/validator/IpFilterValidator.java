@@ -14,14 +14,11 @@ import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.internal.ValidationContext;
 import org.mule.extension.validation.api.IpFilterList;
+import org.mule.extension.validation.internal.ip.RemoteAddress;
 import org.mule.extension.validation.internal.ip.address.IPAddress;
 import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
 import org.mule.runtime.api.i18n.I18nMessage;
 
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,7 +30,6 @@ import org.slf4j.LoggerFactory;
 public class IpFilterValidator extends AbstractValidator {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IpFilterValidator.class);
-  private static final Pattern REMOTE_ADDRESS_PATTERN = Pattern.compile("([^/]*)/(.*):(.*)");
 
   public static final boolean CHECK_RANGE_EXCLUSION = false;
   public static final boolean CHECK_RANGE_INCLUSION = true;
@@ -56,7 +52,7 @@ public class IpFilterValidator extends AbstractValidator {
 
   @Override
   public ValidationResult validate() {
-    String actualIp = format(ip);
+    String actualIp = RemoteAddress.extract(ip);
     IPAddress ipAddress = factory.create(actualIp);
     LOGGER.trace("Verifying IP: {}", actualIp);
 
@@ -66,7 +62,7 @@ public class IpFilterValidator extends AbstractValidator {
       return fail();
     }
 
-    if (!isInRange(ipAddress, ipList.ipAddresses()) == expectedRangeCondition) {
+    if (!ipList.getIndex().contains(ipAddress) == expectedRangeCondition) {
       errorType = REJECTED_IP;
       errorMessage = getMessages().rejectedIp(ip);
       return fail();
@@ -85,20 +81,4 @@ public class IpFilterValidator extends AbstractValidator {
   protected I18nMessage getDefaultErrorMessage() {
     return errorMessage;
   }
-
-  private boolean isInRange(IPAddress ipAddress, List<IPAddress> ranges) {
-    return ranges.stream()
-        .anyMatch(range -> ipAddress.matches(range));
-  }
-
-  private String format(String ipAddress) {
-    String formattedIp = ipAddress;
-
-    Matcher ipMatcher = REMOTE_ADDRESS_PATTERN.matcher(ipAddress);
-    if (ipMatcher.find()) {
-      formattedIp = ipMatcher.group(2);
-    }
-
-    return formattedIp;
-  }
 }
@@ -11,10 +11,9 @@ import static org.mule.extension.validation.internal.ImmutableValidationResult.o
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.ip.IpLiteral;
 import org.mule.runtime.api.i18n.I18nMessage;
 
-import com.google.common.net.InetAddresses;
-
 /**
  * A {@link AbstractValidator} which checks that a given {@link #ip} is valid. It supports both IPV4 and IPV6.
  *
@@ -33,7 +32,16 @@ public class IpValidator extends AbstractValidator {
 
   @Override
   public ValidationResult validate() {
-    return InetAddresses.isInetAddress(ip) ? ok() : fail();
+    return isIp(ip) ? ok() : fail();
+  }
+
+  private static boolean isIp(String ip) {
+    if (ip == null) {
+      return false;
+    }
+    IpLiteral literal = new IpLiteral();
+    // zero padded octets are ambiguous (octal for some resolvers), hence rejected
+    return literal.parse(ip) && !literal.hasLeadingZeros();
   }
 
   @Override
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.validator;
+
+import static org.mule.extension.validation.api.ValidationErrorType.MISMATCH;
+import static org.mule.extension.validation.internal.ImmutableValidationResult.ok;
+
+import org.mule.extension.validation.api.ValidationErrorType;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.regex.RegexCache;
+import org.mule.extension.validation.internal.regex.RegexSet;
+import org.mule.runtime.api.i18n.I18nMessage;
+
+import java.util.List;
+
+/**
+ * An {@link AbstractValidator} which tests that a {@link #value} matches at least one of the given {@link #regexes}. The
+ * expressions are compiled together into a {@link RegexSet}, so that the {@link #value} is scanned once whatever their number.
+ * The compiled sets are taken from the {@link RegexCache#shared()} cache.
+ *
+ * @since 3.0
+ */
+public class MatchesAnyRegexValidator extends AbstractValidator {
+
+  /**
+   * The value to test
+   */
+  private final String value;
+
+  /**
+   * The regexes to test against
+   */
+  private final List<String> regexes;
+
+  /**
+   * Whether the test should be case sensitive or not
+   */
+  private final boolean caseSensitive;
+
+  public MatchesAnyRegexValidator(String value, List<String> regexes, boolean caseSensitive,
+                                  ValidationContext validationContext) {
+    super(validationContext);
+    this.value = value;
+    this.regexes = regexes;
+    this.caseSensitive = caseSensitive;
+  }
+
+  @Override
+  public ValidationResult validate() {
+    return firstMatch() >= 0 ? ok() : fail();
+  }
+
+  /**
+   * @return the first of the {@link #regexes} which the {@link #value} matches, or {@code null} if it matches none
+   */
+  public String matchingRegex() {
+    int index = firstMatch();
+    return index >= 0 ? regexes.get(index) : null;
+  }
+
+  private int firstMatch() {
+    RegexSet regexSet = RegexCache.shared().getSet(regexes, caseSensitive);
+    return value != null ? regexSet.firstMatch(value) : -1;
+  }
+
+  @Override
+  protected ValidationErrorType getErrorType() {
+    return MISMATCH;
+  }
+
+  @Override
+  protected I18nMessage getDefaultErrorMessage() {
+    return getMessages().regexesDoNotMatch(value, regexes);
+  }
+}
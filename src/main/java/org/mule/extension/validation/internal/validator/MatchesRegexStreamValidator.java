@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.validator;
+
+import static org.mule.extension.validation.api.ValidationErrorType.MISMATCH;
+import static org.mule.extension.validation.internal.ImmutableValidationResult.ok;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.extension.validation.api.ValidationErrorType;
+import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.regex.LinearRegex;
+import org.mule.extension.validation.internal.regex.RegexCache;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.i18n.I18nMessage;
+import org.mule.runtime.api.metadata.TypedValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * An {@link AbstractValidator} which tests that a streamed {@link #value} matches a given {@link #regex}, without holding the
+ * whole value in memory. The stream is decoded as it is read, with the charset of its media type or else the
+ * {@link #defaultCharset}, and malformed bytes are replaced as when the value is read into a {@link String}. Reading stops as
+ * soon as the value cannot match anymore. The stream is not closed, so a repeatable stream can still be read afterwards.
+ * <p/>
+ * The {@link #regex} runs on the {@link org.mule.extension.validation.api.RegexEngine#LINEAR} engine, so expressions it does not
+ * support, such as those with backreferences, are rejected with an {@link IllegalArgumentException} rather than matched
+ * against the whole value read into memory. The compiled expressions are taken from the {@link RegexCache#shared()} cache.
+ *
+ * @since 3.0
+ */
+public class MatchesRegexStreamValidator extends AbstractValidator {
+
+  /**
+   * The value to test
+   */
+  private final TypedValue<InputStream> value;
+
+  /**
+   * The regex to test against
+   */
+  private final String regex;
+
+  /**
+   * Whether the test should be case sensitive or not
+   */
+  private final boolean caseSensitive;
+
+  /**
+   * The charset to decode the {@link #value} with when its media type has none
+   */
+  private final Charset defaultCharset;
+
+  public MatchesRegexStreamValidator(TypedValue<InputStream> value, String regex, boolean caseSensitive,
+                                     Charset defaultCharset, ValidationContext validationContext) {
+    super(validationContext);
+    this.value = value;
+    this.regex = regex;
+    this.caseSensitive = caseSensitive;
+    this.defaultCharset = defaultCharset;
+  }
+
+  @Override
+  public ValidationResult validate() {
+    LinearRegex compiledRegex = RegexCache.shared().getStreaming(regex, caseSensitive);
+    if (value == null || value.getValue() == null) {
+      return fail();
+    }
+    Charset charset = value.getDataType().getMediaType().getCharset().orElse(defaultCharset);
+    try {
+      return compiledRegex.matches(new InputStreamReader(value.getValue(), charset)) ? ok() : fail();
+    } catch (IOException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not read the value to match against regex " + regex), e);
+    }
+  }
+
+  @Override
+  protected ValidationErrorType getErrorType() {
+    return MISMATCH;
+  }
+
+  @Override
+  protected I18nMessage getDefaultErrorMessage() {
+    return getMessages().streamDoesNotMatchRegex(regex);
+  }
+}
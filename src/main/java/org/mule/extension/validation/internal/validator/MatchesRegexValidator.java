@@ -6,17 +6,27 @@
  */
 package org.mule.extension.validation.internal.validator;
 
+import static org.mule.extension.validation.api.RegexEngine.JAVA;
 import static org.mule.extension.validation.api.ValidationErrorType.MISMATCH;
+import static org.mule.extension.validation.api.ValidationErrorType.REGEX_BUDGET_EXCEEDED;
+import static org.mule.extension.validation.internal.ImmutableValidationResult.error;
 import static org.mule.extension.validation.internal.ImmutableValidationResult.ok;
+import org.mule.extension.validation.api.RegexEngine;
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.regex.CompiledRegex;
+import org.mule.extension.validation.internal.regex.RegexBudgetExceededException;
+import org.mule.extension.validation.internal.regex.RegexCache;
 import org.mule.runtime.api.i18n.I18nMessage;
 
-import org.apache.commons.validator.routines.RegexValidator;
-
 /**
- * An {@link AbstractValidator} which tests that a {@link #value} matches a given {@link #regex}
+ * An {@link AbstractValidator} which tests that a {@link #value} matches a given {@link #regex}. The compiled expressions are
+ * taken from the {@link RegexCache#shared()} cache.
+ * <p/>
+ * When {@link #maxSteps} is positive, a match which takes more steps fails with
+ * {@link ValidationErrorType#REGEX_BUDGET_EXCEEDED}, so that an input which makes the expression backtrack costs a bounded
+ * amount of time.
  *
  * @since 1.0
  */
@@ -37,18 +47,49 @@ public class MatchesRegexValidator extends AbstractValidator {
    */
   private final boolean caseSensitive;
 
+  /**
+   * The engine to run the {@link #regex} on
+   */
+  private final RegexEngine engine;
+
+  /**
+   * How many steps the match can take, or {@code 0} for no limit
+   */
+  private final long maxSteps;
 
   public MatchesRegexValidator(String value, String regex, boolean caseSensitive, ValidationContext validationContext) {
+    this(value, regex, caseSensitive, JAVA, validationContext);
+  }
+
+  public MatchesRegexValidator(String value, String regex, boolean caseSensitive, RegexEngine engine,
+                               ValidationContext validationContext) {
+    this(value, regex, caseSensitive, engine, 0, validationContext);
+  }
+
+  public MatchesRegexValidator(String value, String regex, boolean caseSensitive, RegexEngine engine, long maxSteps,
+                               ValidationContext validationContext) {
     super(validationContext);
     this.value = value;
     this.regex = regex;
     this.caseSensitive = caseSensitive;
+    this.engine = engine;
+    this.maxSteps = maxSteps;
   }
 
   @Override
   public ValidationResult validate() {
-    RegexValidator validator = new RegexValidator(new String[] {regex}, caseSensitive);
-    return validator.isValid(value) ? ok() : fail();
+    CompiledRegex compiledRegex = RegexCache.shared().get(regex, caseSensitive, engine);
+    if (value == null) {
+      return fail();
+    }
+    if (maxSteps <= 0) {
+      return compiledRegex.matches(value) ? ok() : fail();
+    }
+    try {
+      return compiledRegex.matches(value, maxSteps) ? ok() : fail();
+    } catch (RegexBudgetExceededException e) {
+      return error(getMessages().regexBudgetExceeded(value, regex, maxSteps).getMessage(), REGEX_BUDGET_EXCEEDED);
+    }
   }
 
   @Override
@@ -13,8 +13,11 @@ import org.mule.extension.validation.api.NumberType;
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.number.BigNumberParser;
 import org.mule.runtime.api.i18n.I18nMessage;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Locale;
 
 /**
@@ -52,10 +55,25 @@ public class NumberValidator extends AbstractValidator {
 
   private NumberType numberType;
 
+  /**
+   * The maximum number of digits after the decimal separator of {@link NumberType#BIG_DECIMAL} values
+   */
+  private Integer maxScale;
+
+  /**
+   * The maximum number of significant digits of {@link NumberType#BIG_DECIMAL} and {@link NumberType#BIG_INTEGER} values
+   */
+  private Integer maxPrecision;
+
   private I18nMessage errorMessage;
 
   public NumberValidator(String value, Locale locale, String pattern, Number minValue, Number maxValue, NumberType numberType,
                          ValidationContext validationContext) {
+    this(value, locale, pattern, minValue, maxValue, numberType, null, null, validationContext);
+  }
+
+  public NumberValidator(String value, Locale locale, String pattern, Number minValue, Number maxValue, NumberType numberType,
+                         Integer maxScale, Integer maxPrecision, ValidationContext validationContext) {
     super(validationContext);
     this.value = value;
     this.locale = locale;
@@ -63,12 +81,28 @@ public class NumberValidator extends AbstractValidator {
     this.minValue = minValue;
     this.maxValue = maxValue;
     this.numberType = numberType;
+    this.maxScale = maxScale;
+    this.maxPrecision = maxPrecision;
   }
 
   @Override
   public ValidationResult validate() {
-    Comparable<Number> newValue = (Comparable<Number>) numberType.toNumber(value, pattern, locale);
-
+    Number newValue;
+    if (isBig() && (maxScale != null || maxPrecision != null)) {
+      BigNumberParser parser = new BigNumberParser(numberType);
+      int result = parser.parse(value, pattern, locale, maxScale, maxPrecision);
+      if (result == BigNumberParser.SCALE_EXCEEDED) {
+        errorMessage = getMessages().scaleExceeded(value, maxScale);
+        return fail();
+      }
+      if (result == BigNumberParser.PRECISION_EXCEEDED) {
+        errorMessage = getMessages().precisionExceeded(value, maxPrecision);
+        return fail();
+      }
+      newValue = parser.getValue();
+    } else {
+      newValue = numberType.toNumber(value, pattern, locale);
+    }
 
     if (newValue == null) {
       errorMessage = getMessages().invalidNumberType(value, numberType.name());
@@ -76,14 +110,14 @@ public class NumberValidator extends AbstractValidator {
     }
 
     if (minValue != null) {
-      if (newValue.compareTo(minValue) < 0) {
+      if (compare(newValue, minValue) < 0) {
         errorMessage = getMessages().lowerThan(newValue, minValue);
         return fail();
       }
     }
 
     if (maxValue != null) {
-      if (newValue.compareTo(maxValue) > 0) {
+      if (compare(newValue, maxValue) > 0) {
         errorMessage = getMessages().greaterThan(newValue, maxValue);
         return fail();
       }
@@ -92,6 +126,27 @@ public class NumberValidator extends AbstractValidator {
     return ok();
   }
 
+  /**
+   * Compares the primitive values of two numbers of the {@link #numberType}, in the same order as their
+   * {@link Comparable#compareTo(Object)}
+   */
+  private int compare(Number number, Number other) {
+    if (numberType == NumberType.BIG_DECIMAL) {
+      return ((BigDecimal) number).compareTo((BigDecimal) other);
+    }
+    if (numberType == NumberType.BIG_INTEGER) {
+      return ((BigInteger) number).compareTo((BigInteger) other);
+    }
+    if (numberType == NumberType.DOUBLE || numberType == NumberType.FLOAT) {
+      return Double.compare(number.doubleValue(), other.doubleValue());
+    }
+    return Long.compare(number.longValue(), other.longValue());
+  }
+
+  private boolean isBig() {
+    return numberType == NumberType.BIG_DECIMAL || numberType == NumberType.BIG_INTEGER;
+  }
+
   @Override
   protected ValidationErrorType getErrorType() {
     return INVALID_NUMBER;
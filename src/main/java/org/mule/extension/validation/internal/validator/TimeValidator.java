@@ -10,16 +10,25 @@ import static org.mule.extension.validation.api.ValidationErrorType.INVALID_TIME
 import static org.mule.extension.validation.internal.ImmutableValidationResult.ok;
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.api.ValidationResult;
+import org.mule.extension.validation.internal.Locales;
 import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.time.DateTimeFormatterCache;
 import org.mule.runtime.api.i18n.I18nMessage;
 
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.Locale;
 
 /**
  * An {@link AbstractValidator} which verifies that a {@link #time} represented as a {@link String} can be parsed using a given
  * {@link #locale} and {@link #pattern}
+ * <p/>
+ * The {@link DateTimeFormatter}s are taken from the {@link DateTimeFormatterCache}, so that each pattern is compiled only once.
+ * <p/>
+ * The {@link #time} is parsed once, through the {@link java.text.Format} view of the formatter, which reports the times that
+ * do not match the {@link #pattern} through a {@link ParsePosition} instead of an exception. Valid times are parsed and resolved
+ * only once, as with {@link DateTimeFormatter#parse(CharSequence)}, and only times such as {@code 25:00}, whose fields are out
+ * of range or inconsistent, still cost an exception, which the JDK throws and catches while resolving them.
  *
  * @since 1.0
  */
@@ -39,15 +48,18 @@ public class TimeValidator extends AbstractValidator {
 
   @Override
   public ValidationResult validate() {
-    Locale locale = new Locale(this.locale);
+    DateTimeFormatter formatter = DateTimeFormatterCache.get(pattern, Locales.forLanguage(locale));
+    ParsePosition position = new ParsePosition(0);
     try {
-      DateTimeFormatter.ofPattern(pattern).withLocale(locale).parse(time);
-    } catch (DateTimeParseException e) {
-      errorMessage = getMessages().invalidTime(time, this.locale, pattern);
-      return fail();
+      if (formatter.toFormat().parseObject(time, position) != null && position.getIndex() == time.length()) {
+        return ok();
+      }
+    } catch (DateTimeException e) {
+      // thrown while parsing fields which are checked as they are read, such as an offset of +25:00
     }
 
-    return ok();
+    errorMessage = getMessages().invalidTime(time, locale, pattern);
+    return fail();
   }
 
   @Override
@@ -8,41 +8,164 @@ package org.mule.extension.validation.internal.validator;
 
 import static org.mule.extension.validation.api.ValidationErrorType.INVALID_URL;
 import static org.mule.extension.validation.internal.ImmutableValidationResult.ok;
+
+import static java.util.Arrays.asList;
+
+import org.mule.extension.validation.api.UrlHostType;
 import org.mule.extension.validation.api.ValidationErrorType;
 import org.mule.extension.validation.api.ValidationResult;
 import org.mule.extension.validation.internal.ValidationContext;
+import org.mule.extension.validation.internal.url.UrlSyntax;
 import org.mule.runtime.api.i18n.I18nMessage;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.List;
 
 /**
  * An {@link AbstractValidator} which verifies that an instance of {@link URL} can be created from a given {@link #url}. If
  * {@link URL#URL(String)} throws exception when invoked with {@link #url}, then the validation will fail
+ * <p/>
+ * The {@link #url} is first parsed by {@link UrlSyntax}. Most URLs are accepted or rejected from that parse alone: those
+ * without a protocol are rejected, and well formed {@code http} and {@code https} URLs with a plain host name or IPv4
+ * address and a short port, if any, are accepted. Only the others are handed to {@link URL#URL(String)}, which looks up the
+ * protocol handler and throws on invalid input.
+ * <p/>
+ * When {@link #strict}, the {@link #url} must instead be a well formed URI as defined by RFC 3986, and {@link URL} is not
+ * used at all. Independently, the {@link #url} can be required to be at most {@link #maxLength} characters long, to have one
+ * of the {@link #allowedSchemes} and to have a host of a given {@link #hostType}.
  *
  * @since 1.0
  */
 public class UrlValidator extends AbstractValidator {
 
+  private static final List<String> HTTP_SCHEMES = asList("http", "https");
+
+  private static final int VALID = 1;
+  private static final int INVALID = 0;
+  private static final int UNDECIDED = -1;
+
   /**
    * the url to be tested
    */
   private final String url;
 
+  /**
+   * The schemes the {@link #url} can have, ignoring case, or {@code null} for any
+   */
+  private final List<String> allowedSchemes;
+
+  /**
+   * The kind of host the {@link #url} must have
+   */
+  private final UrlHostType hostType;
+
+  /**
+   * The maximum length of the {@link #url}, or {@code null} for no limit
+   */
+  private final Integer maxLength;
+
+  /**
+   * Whether the {@link #url} must be a well formed RFC 3986 URI, instead of being accepted by {@link URL#URL(String)}
+   */
+  private final boolean strict;
 
   public UrlValidator(String url, ValidationContext validationContext) {
+    this(url, null, UrlHostType.ANY, null, false, validationContext);
+  }
+
+  public UrlValidator(String url, List<String> allowedSchemes, UrlHostType hostType, Integer maxLength, boolean strict,
+                      ValidationContext validationContext) {
     super(validationContext);
     this.url = url;
+    this.allowedSchemes = allowedSchemes;
+    this.hostType = hostType;
+    this.maxLength = maxLength;
+    this.strict = strict;
   }
 
   @Override
   public ValidationResult validate() {
-    try {
-      new URL(url);
-      return ok();
-    } catch (MalformedURLException e) {
+    if (url == null || (maxLength != null && url.length() > maxLength)) {
+      return fail();
+    }
+
+    UrlSyntax syntax = new UrlSyntax();
+    syntax.parse(url);
+    if (allowedSchemes != null && !syntax.isSchemeIn(allowedSchemes)) {
+      return fail();
+    }
+    if ((hostType == UrlHostType.DOMAIN && !syntax.isHostDomain(getTopLevelDomains()))
+        || (hostType == UrlHostType.IP && !syntax.isHostIp())) {
       return fail();
     }
+    if (strict) {
+      return syntax.isWellFormed() ? ok() : fail();
+    }
+
+    int decision = decide(url, syntax);
+    if (decision == UNDECIDED) {
+      try {
+        new URL(url);
+        return ok();
+      } catch (MalformedURLException e) {
+        return fail();
+      }
+    }
+    return decision == VALID ? ok() : fail();
+  }
+
+  /**
+   * Decides whether {@link URL#URL(String)} accepts {@code url} when it can be told from its syntax alone
+   */
+  private static int decide(String url, UrlSyntax syntax) {
+    int length = url.length();
+    if (length == 0) {
+      return INVALID;
+    }
+    // URL trims the spec and strips a leading "url:"
+    if (url.charAt(0) <= ' ' || url.charAt(length - 1) <= ' ' || url.regionMatches(true, 0, "url:", 0, 4)) {
+      return UNDECIDED;
+    }
+
+    // the protocol is what comes before the first ':', unless a '/' or a leading '#' comes first
+    int colon = -1;
+    for (int i = url.charAt(0) == '#' ? length : 0; i < length; i++) {
+      char c = url.charAt(i);
+      if (c == ':') {
+        colon = i;
+        break;
+      }
+      if (c == '/') {
+        break;
+      }
+    }
+    if (colon <= 0) {
+      return INVALID;
+    }
+    for (int i = 0; i < colon; i++) {
+      char c = url.charAt(i);
+      if (c >= 0x80) {
+        // URL takes any Unicode letter
+        return UNDECIDED;
+      }
+      boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+      if (!letter && (i == 0 || !((c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.'))) {
+        return INVALID;
+      }
+    }
+
+    if (!syntax.isWellFormed() || !syntax.isSchemeIn(HTTP_SCHEMES) || syntax.hasUserInfo() || syntax.getPortLength() > 5
+        || syntax.getHostEnd() <= syntax.getHostStart()) {
+      return UNDECIDED;
+    }
+    for (int i = syntax.getHostStart(); i < syntax.getHostEnd(); i++) {
+      char c = url.charAt(i);
+      if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.')) {
+        return UNDECIDED;
+      }
+    }
+    return VALID;
   }
 
   @Override
@@ -6,14 +6,20 @@
  */
 package org.mule.extension.validation;
 
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.ChronoUnit.HOURS;
 import static java.util.Collections.singletonList;
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mule.extension.validation.api.ValidationErrorType.ELAPSED_TIME;
 import static org.mule.extension.validation.api.ValidationErrorType.NOT_ELAPSED_TIME;
+import static org.mule.extension.validation.api.ValidationErrorType.REGEX_BUDGET_EXCEEDED;
 import static org.mule.extension.validation.api.ValidationExtension.DEFAULT_LOCALE;
 import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+import static org.mule.runtime.api.metadata.MediaType.TEXT;
 
 import org.mule.functional.api.exception.ExpectedError;
 import org.mule.functional.api.flow.FlowRunner;
@@ -23,9 +29,13 @@ import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class BasicValidationTestCase extends ValidationTestCase {
@@ -70,6 +80,17 @@ public class BasicValidationTestCase extends ValidationTestCase {
     assertInvalid(flowRunner("ip").withPayload(invalidIp), messages.invalidIp(invalidIp));
   }
 
+  @Test
+  public void ipEdgeCases() throws Exception {
+    assertValid(flowRunner("ip").withPayload("::"));
+    assertValid(flowRunner("ip").withPayload("::ffff:10.1.2.3"));
+    assertValid(flowRunner("ip").withPayload("1:2:3:4:5:6:7::"));
+    assertInvalid(flowRunner("ip").withPayload("1:2:3:4:5:6:7:8::"), messages.invalidIp("1:2:3:4:5:6:7:8::"));
+    assertInvalid(flowRunner("ip").withPayload("1::2::3"), messages.invalidIp("1::2::3"));
+    assertInvalid(flowRunner("ip").withPayload("010.1.2.3"), messages.invalidIp("010.1.2.3"));
+    assertInvalid(flowRunner("ip").withPayload("1.2.3.4 "), messages.invalidIp("1.2.3.4 "));
+  }
+
   @Test
   public void url() throws Exception {
     assertValid(flowRunner("url").withPayload(VALID_URL));
@@ -78,6 +99,37 @@ public class BasicValidationTestCase extends ValidationTestCase {
     assertInvalid(flowRunner("url").withPayload(INVALID_URL), messages.invalidUrl("here"));
   }
 
+  @Test
+  public void restrictedUrl() throws Exception {
+    String url = "https://www.mulesoft.com/a%20b?c=d#e";
+    assertValid(flowRunner("restrictedUrl").withPayload(url).withVariable("schemes", Arrays.asList("HTTPS"))
+        .withVariable("hostType", "DOMAIN").withVariable("maxLength", url.length()).withVariable("strict", true));
+    assertInvalid(flowRunner("restrictedUrl").withPayload(url).withVariable("schemes", Arrays.asList("http")),
+                  messages.invalidUrl(url));
+    assertInvalid(flowRunner("restrictedUrl").withPayload(url).withVariable("maxLength", url.length() - 1),
+                  messages.invalidUrl(url));
+    assertInvalid(flowRunner("restrictedUrl").withPayload(url).withVariable("hostType", "IP"), messages.invalidUrl(url));
+    assertValid(flowRunner("restrictedUrl").withPayload("http://[::1]:8080/").withVariable("hostType", "IP"));
+
+    String unencoded = "http://localhost/a b";
+    assertValid(flowRunner("restrictedUrl").withPayload(unencoded));
+    assertInvalid(flowRunner("restrictedUrl").withPayload(unencoded).withVariable("strict", true),
+                  messages.invalidUrl(unencoded));
+  }
+
+  @Test
+  public void bigDecimalLimits() throws Exception {
+    String amount = "12345678901234567890.1234";
+    assertValid(flowRunner("bigDecimal").withPayload(amount).withVariable("maxScale", 4).withVariable("maxPrecision", 24));
+    assertInvalid(flowRunner("bigDecimal").withPayload(amount).withVariable("maxScale", 2),
+                  messages.scaleExceeded(amount, 2));
+    assertInvalid(flowRunner("bigDecimal").withPayload(amount).withVariable("maxPrecision", 20),
+                  messages.precisionExceeded(amount, 20));
+
+    String huge = new String(new char[10 * 1024 * 1024]).replace('\0', '9');
+    assertInvalid(flowRunner("bigDecimal").withPayload(huge), messages.invalidNumberType(huge, "BIG_DECIMAL"));
+  }
+
   @Test
   public void time() throws Exception {
     String time = "12:08 PM";
@@ -94,6 +146,23 @@ public class BasicValidationTestCase extends ValidationTestCase {
                   messages.invalidTime(time, DEFAULT_LOCALE, invalidPattern));
   }
 
+  @Test
+  public void unresolvableTime() throws Exception {
+    assertValid(configureTimeRunner(flowRunner("time"), "2024-02-29 23:59", "yyyy-MM-dd HH:mm"));
+    for (String time : new String[] {"2024-02-29 23:59 ", "2024-02-29 25:00", "2024-13-01 12:00"}) {
+      assertInvalid(configureTimeRunner(flowRunner("time"), time, "yyyy-MM-dd HH:mm"),
+                    messages.invalidTime(time, DEFAULT_LOCALE, "yyyy-MM-dd HH:mm"));
+    }
+
+    String time = "Thu, Jul 4, '01";
+    assertInvalid(configureTimeRunner(flowRunner("time"), time, "EEE, MMM d, ''yy"),
+                  messages.invalidTime(time, DEFAULT_LOCALE, "EEE, MMM d, ''yy"));
+
+    time = "2024-02-29 23:59 +2500";
+    assertInvalid(configureTimeRunner(flowRunner("time"), time, "yyyy-MM-dd HH:mm Z"),
+                  messages.invalidTime(time, DEFAULT_LOCALE, "yyyy-MM-dd HH:mm Z"));
+  }
+
   private FlowRunner configureTimeRunner(FlowRunner runner, String time, String pattern) {
     return runner.withPayload(time).withVariable("pattern", pattern);
   }
@@ -115,6 +184,94 @@ public class BasicValidationTestCase extends ValidationTestCase {
     assertInvalid(runner.withPayload(testValue), messages.regexDoesNotMatch(testValue, regex));
   }
 
+  @Test
+  public void matchesRegexOnLinearEngine() throws Exception {
+    final String regex = "[tT]rue";
+
+    FlowRunner runner =
+        flowRunner("matchesRegexLinear").withPayload("TRUE").withVariable("regexp", regex).withVariable("caseSensitive", false);
+    assertValid(runner);
+
+    String testValue = "TRUE";
+    assertInvalid(runner.withVariable("caseSensitive", true), messages.regexDoesNotMatch(testValue, regex));
+  }
+
+  @Test(timeout = 10000)
+  public void matchesRegexOnLinearEngineDoesNotBacktrack() throws Exception {
+    final String regex = "(a+)+$";
+    final String testValue = repeat("a", 64) + "!";
+
+    FlowRunner runner = flowRunner("matchesRegexLinear").withPayload(testValue).withVariable("regexp", regex)
+        .withVariable("caseSensitive", true);
+    assertInvalid(runner, messages.regexDoesNotMatch(testValue, regex));
+  }
+
+  @Test
+  public void matchesRegexWithinBudget() throws Exception {
+    final String regex = "\\w+@\\w+\\.com";
+
+    FlowRunner runner = flowRunner("matchesRegexWithBudget").withPayload("me@host.com").withVariable("regexp", regex)
+        .withVariable("maxSteps", 1000);
+    assertValid(runner);
+
+    String testValue = "me@host.org";
+    assertInvalid(runner.withPayload(testValue), messages.regexDoesNotMatch(testValue, regex));
+  }
+
+  @Test(timeout = 10000)
+  public void matchesRegexOverBudget() throws Exception {
+    final String regex = "(.*a){12}";
+    final String testValue = repeat("a", 64) + "!";
+
+    FlowRunner runner = flowRunner("matchesRegexWithBudget").withPayload(testValue).withVariable("regexp", regex)
+        .withVariable("maxSteps", 100000);
+    assertInvalid(runner, messages.regexBudgetExceeded(testValue, regex, 100000));
+  }
+
+  @Test(timeout = 10000)
+  public void matchesRegexOverBudgetErrorType() throws Exception {
+    expected.expectErrorType(VALIDATION_NAMESPACE, REGEX_BUDGET_EXCEEDED.name());
+
+    FlowRunner runner = flowRunner("matchesRegexWithBudget").withPayload(repeat("a", 64) + "!")
+        .withVariable("regexp", "(.*a){12}").withVariable("maxSteps", 100000);
+    runner.run();
+  }
+
+  @Test
+  public void matchesAnyRegex() throws Exception {
+    final List<String> regexes = Arrays.asList("[0-9]+", "[tT]rue", "(a)\\1");
+
+    FlowRunner runner = flowRunner("matchesAnyRegex").withPayload("TRUE").withVariable("regexps", regexes)
+        .withVariable("caseSensitive", false);
+    assertValid(runner);
+    assertValid(runner.withPayload("123"));
+    assertValid(runner.withPayload("aa"));
+
+    String testValue = "TRUE";
+    assertInvalid(runner.withPayload(testValue).withVariable("caseSensitive", true),
+                  messages.regexesDoNotMatch(testValue, regexes));
+  }
+
+  @Test
+  public void matchesRegexStream() throws Exception {
+    final String regex = "caf\u00e9-[0-9]+\\s*$";
+
+    assertValid(flowRunner("matchesRegexStream").withPayload(stream("caf\u00e9-" + repeat("1", 100000) + "\n", UTF_8))
+        .withVariable("regexp", regex));
+    assertValid(flowRunner("matchesRegexStream").withPayload(stream("CAF\u00c9-123", UTF_16))
+        .withMediaType(TEXT.withCharset(UTF_16)).withVariable("regexp", regex).withVariable("caseSensitive", false));
+    assertInvalid(flowRunner("matchesRegexStream").withPayload(stream("cafe-123", UTF_8)).withVariable("regexp", regex),
+                  messages.streamDoesNotMatchRegex(regex));
+    assertInvalid(flowRunner("matchesRegexStream").withPayload(stream("CAF\u00c9-123", UTF_8)).withVariable("regexp", regex),
+                  messages.streamDoesNotMatchRegex(regex));
+  }
+
+  @Test
+  public void matchesRegexStreamRejectsBackreferences() throws Exception {
+    flowRunner("matchesRegexStream").withPayload(stream("abab", UTF_8)).withVariable("regexp", "(ab)\\1")
+        .runExpectingException(instanceOf(IllegalArgumentException.class));
+  }
+
   @Test
   public void size() throws Exception {
     assertSize("abc");
@@ -281,4 +438,7 @@ public class BasicValidationTestCase extends ValidationTestCase {
     return runner;
   }
 
+  private static InputStream stream(String value, Charset charset) {
+    return new ByteArrayInputStream(value.getBytes(charset));
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.mule.extension.validation.api.IpFilterList;
+import org.mule.extension.validation.internal.ip.IpFilterReloader;
+import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IpFilterListTestCase extends AbstractMuleTestCase {
+
+  private static final long RELOAD_INTERVAL = 20;
+  private static final long TIMEOUT = 10000;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final IPAddressFactory factory = new IPAddressFactory();
+  private final List<IpFilterList> lists = new ArrayList<>();
+  private Path path;
+
+  @Before
+  public void writeFile() throws IOException {
+    path = folder.newFile("deny-list.txt").toPath();
+    Files.write(path, asList("# initial entries", "10.0.0.0/8"));
+  }
+
+  @After
+  public void disposeLists() {
+    lists.forEach(IpFilterList::dispose);
+  }
+
+  @Test
+  public void reloadsReplacedFile() throws Exception {
+    IpFilterList list = reloadingList();
+    assertThat(contains(list, "10.1.2.3"), is(true));
+    assertThat(contains(list, "11.1.2.3"), is(false));
+    assertThat(list.getEntryCount(), is(1));
+    assertThat(list.getReloadCount(), is(0L));
+
+    replaceFile("11.0.0.0/8", "12.0.0.1");
+    await(() -> list.getReloadCount() == 1);
+
+    assertThat(contains(list, "10.1.2.3"), is(false));
+    assertThat(contains(list, "11.1.2.3"), is(true));
+    assertThat(contains(list, "12.0.0.1"), is(true));
+    assertThat(list.getEntryCount(), is(2));
+    assertThat(list.getLastReloadDuration(), is(greaterThanOrEqualTo(0L)));
+  }
+
+  @Test
+  public void keepsEntriesWhenReloadFails() throws Exception {
+    IpFilterList list = reloadingList();
+
+    replaceFile("11.0.0.0/8", "not an address");
+    Thread.sleep(RELOAD_INTERVAL * 10);
+    assertThat(contains(list, "10.1.2.3"), is(true));
+    assertThat(contains(list, "11.1.2.3"), is(false));
+    assertThat(list.getEntryCount(), is(1));
+    assertThat(list.getReloadCount(), is(0L));
+
+    // the list is still checked after the failure
+    replaceFile("11.0.0.0/8");
+    await(() -> list.getReloadCount() == 1);
+    assertThat(contains(list, "10.1.2.3"), is(false));
+    assertThat(contains(list, "11.1.2.3"), is(true));
+  }
+
+  @Test
+  public void stopsReloadingWhenDisposed() throws Exception {
+    IpFilterList first = reloadingList();
+    IpFilterList second = reloadingList();
+    assertThat(IpFilterReloader.isRunning(), is(true));
+
+    first.dispose();
+    assertThat(IpFilterReloader.isRunning(), is(true));
+    second.dispose();
+    assertThat(IpFilterReloader.isRunning(), is(false));
+
+    replaceFile("11.0.0.0/8");
+    Thread.sleep(RELOAD_INTERVAL * 10);
+    assertThat(first.getReloadCount(), is(0L));
+    assertThat(contains(first, "10.1.2.3"), is(true));
+  }
+
+  private IpFilterList reloadingList() throws Exception {
+    IpFilterList list = new IpFilterList();
+    list.setFile(path.toString());
+    list.setReloadInterval(RELOAD_INTERVAL);
+    list.setReloadIntervalUnit(MILLISECONDS);
+    list.initialise();
+    lists.add(list);
+    return list;
+  }
+
+  private void replaceFile(String... entries) throws IOException {
+    Path replacement = folder.newFile().toPath();
+    Files.write(replacement, asList(entries));
+    Files.move(replacement, path, REPLACE_EXISTING);
+  }
+
+  private boolean contains(IpFilterList list, String ip) {
+    return list.getIndex().contains(factory.create(ip));
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        fail("Timed out waiting for the list to be reloaded");
+      }
+      Thread.sleep(RELOAD_INTERVAL);
+    }
+  }
+}
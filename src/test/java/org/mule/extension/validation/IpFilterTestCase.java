@@ -7,17 +7,23 @@
 package org.mule.extension.validation;
 
 import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.mule.extension.validation.api.ValidationErrorType.INVALID_IP;
 import static org.mule.extension.validation.api.ValidationErrorType.REJECTED_IP;
 import static org.mule.extension.validation.api.ValidationErrorType.VALIDATION;
 import static org.mule.tck.junit4.matcher.ErrorTypeMatcher.errorType;
 
+import org.mule.extension.validation.api.IpFilterList;
 import org.mule.functional.api.flow.FlowRunner;
+import org.mule.runtime.api.artifact.Registry;
 
 import java.util.List;
 
+import javax.inject.Inject;
+
 import org.junit.Test;
 
 public class IpFilterTestCase extends ValidationTestCase {
@@ -35,6 +41,21 @@ public class IpFilterTestCase extends ValidationTestCase {
   private List<String> invalidAllowListIpsV6 = asList("2002:db8:0:ffff:ffff:ffff:ffff:ffff");
   private List<String> validAllowListIpsV6 = asList("2001:db8:0:0:0:0:0:0");
 
+  private List<String> deniedOverlappingIps = asList("172.16.5.7", "172.16.0.1", "172.16.255.255", "10.10.10.128",
+                                                     "10.10.10.255", "2001:db8:1::1", "2001:db8:1:2::ffff", "2001:db8:2::1",
+                                                     "/172.16.5.7:8080", "host/[2001:db8:1::1]:443");
+  private List<String> notDeniedOverlappingIps = asList("172.17.0.1", "172.15.255.255", "10.10.10.127", "10.10.11.128",
+                                                        "2001:db8:2::2", "2001:db8:0:ffff::1");
+
+  private List<String> deniedPartialIps = asList("10.1.2.3", "110.0.0.1", "1.10.0.1", "192.168.1.5", "5.68.1.9", "010.0.0.1");
+  private List<String> notDeniedPartialIps = asList("11.0.0.1", "1.2.3.10", "1.2.68.1", "192.168.2.1", "2001:db8::10");
+
+  private List<String> deniedFileIps = asList("203.0.113.0", "203.0.113.255", "198.51.100.7", "2001:db8:f::1");
+  private List<String> notDeniedFileIps = asList("203.0.114.0", "198.51.100.8", "2001:db8:e::1");
+
+  @Inject
+  private Registry registry;
+
   @Override
   protected String getConfigFile() {
     return "ip-filter-validations.xml";
@@ -105,6 +126,72 @@ public class IpFilterTestCase extends ValidationTestCase {
     }
   }
 
+  @Test
+  public void ipFilterOverlappingRangesDenyList() throws Exception {
+    for (String ip : deniedOverlappingIps) {
+      createFlowRunner("flow_denylist_overlapping", ip)
+          .runExpectingException(errorType(VALIDATION.name(), REJECTED_IP.name()));
+    }
+  }
+
+  @Test
+  public void ipFilterOverlappingRangesNotDenied() throws Exception {
+    for (String ip : notDeniedOverlappingIps) {
+      assertNotNull("ip " + ip + " should not be blocked", createFlowRunner("flow_denylist_overlapping", ip).run());
+    }
+  }
+
+  @Test
+  public void ipFilterDecisionCache() throws Exception {
+    IpFilterList list = registry.<IpFilterList>lookupByName("deniedlist_overlapping").get();
+    long hits = list.getDecisionCacheHits();
+    long misses = list.getDecisionCacheMisses();
+
+    assertNotNull(createFlowRunner("flow_denylist_overlapping", "172.31.0.1").run());
+    assertThat(list.getDecisionCacheMisses(), is(misses + 1));
+    assertThat(list.getDecisionCacheHits(), is(hits));
+
+    assertNotNull(createFlowRunner("flow_denylist_overlapping", "172.31.0.1").run());
+    assertThat(list.getDecisionCacheMisses(), is(misses + 1));
+    assertThat(list.getDecisionCacheHits(), is(hits + 1));
+
+    // zero padded addresses are matched on their text, which the cache does not key on
+    createFlowRunner("flow_denylist_overlapping", "172.016.5.7")
+        .runExpectingException(errorType(VALIDATION.name(), REJECTED_IP.name()));
+    assertThat(list.getDecisionCacheMisses(), is(misses + 1));
+    assertThat(list.getDecisionCacheHits(), is(hits + 1));
+  }
+
+  @Test
+  public void ipFilterPartialRangesDenyList() throws Exception {
+    for (String ip : deniedPartialIps) {
+      createFlowRunner("flow_denylist_partial", ip)
+          .runExpectingException(errorType(VALIDATION.name(), REJECTED_IP.name()));
+    }
+  }
+
+  @Test
+  public void ipFilterPartialRangesNotDenied() throws Exception {
+    for (String ip : notDeniedPartialIps) {
+      assertNotNull("ip " + ip + " should not be blocked", createFlowRunner("flow_denylist_partial", ip).run());
+    }
+  }
+
+  @Test
+  public void ipFilterFileDenyList() throws Exception {
+    for (String ip : deniedFileIps) {
+      createFlowRunner("flow_denylist_file", ip)
+          .runExpectingException(errorType(VALIDATION.name(), REJECTED_IP.name()));
+    }
+  }
+
+  @Test
+  public void ipFilterFileNotDenied() throws Exception {
+    for (String ip : notDeniedFileIps) {
+      assertNotNull("ip " + ip + " should not be blocked", createFlowRunner("flow_denylist_file", ip).run());
+    }
+  }
+
   @Test
   public void allowListExpressionResolvesToNull() throws Exception {
     flowRunner("flow_allowlist_ipv4").runExpectingException(instanceOf(IllegalArgumentException.class));
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.api.IpFilterList;
+import org.mule.extension.validation.api.IpRangeFiles;
+import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IpRangeFilesTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final IPAddressFactory factory = new IPAddressFactory();
+
+  @Test
+  public void convertsTextListForIpFilterList() throws Exception {
+    Path text = folder.newFile("deny-list.txt").toPath();
+    Files.write(text, asList("# deny list", "10.0.0.0/8", "", "2001:db8::/32"));
+    Path ranges = folder.newFile("deny-list.bin").toPath();
+    IpRangeFiles.convert(text, ranges);
+
+    IpFilterList list = new IpFilterList();
+    list.setFile(ranges.toString());
+    list.initialise();
+    assertThat(list.getEntryCount(), is(2));
+    assertThat(list.getIndex().contains(factory.create("10.1.2.3")), is(true));
+    assertThat(list.getIndex().contains(factory.create("2001:db8:1::1")), is(true));
+    assertThat(list.getIndex().contains(factory.create("11.1.2.3")), is(false));
+  }
+
+  @Test
+  public void writesTheDocumentedLayout() throws Exception {
+    Path path = folder.newFile("ranges.bin").toPath();
+    IpRangeFiles.write(asList("10.0.1.0/24", "10.0.0.0/24", "192.168.0.1", "::1"), path);
+
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    assertThat(buffer.capacity(), is(16 + 8 * 2 + 32));
+    byte[] magic = new byte[4];
+    buffer.get(magic);
+    assertThat(new String(magic, US_ASCII), is("MIPR"));
+    assertThat(buffer.getInt(), is(IpRangeFiles.FORMAT_VERSION));
+    assertThat(buffer.getInt(), is(2));
+    assertThat(buffer.getInt(), is(1));
+
+    // adjacent ranges are merged
+    assertThat(buffer.getInt(), is(0x0A000000));
+    assertThat(buffer.getInt(), is(0x0A0001FF));
+    assertThat(buffer.getInt(), is(0xC0A80001));
+    assertThat(buffer.getInt(), is(0xC0A80001));
+    assertThat(buffer.getLong(), is(0L));
+    assertThat(buffer.getLong(), is(1L));
+    assertThat(buffer.getLong(), is(0L));
+    assertThat(buffer.getLong(), is(1L));
+  }
+}
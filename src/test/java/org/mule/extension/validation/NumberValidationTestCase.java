@@ -10,6 +10,8 @@ import org.mule.extension.validation.api.NumberType;
 import org.mule.functional.api.flow.FlowRunner;
 import org.mule.test.runner.RunnerDelegateTo;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -37,7 +39,13 @@ public class NumberValidationTestCase extends ValidationTestCase {
         {"short", new Short("100"), new Integer(Short.MIN_VALUE + 1).shortValue(), new Integer(Short.MAX_VALUE - 1).shortValue(),
             Short.MIN_VALUE, Short.MAX_VALUE, NumberType.SHORT},
         {"double", 10D, 1D, 10D, Double.MIN_VALUE, Double.MAX_VALUE, NumberType.DOUBLE},
-        {"float", 10F, 1F, 10F, 0F, 20F, NumberType.DOUBLE}});
+        {"float", 10F, 1F, 10F, 0F, 20F, NumberType.DOUBLE},
+        {"bigDecimal", new BigDecimal("123456789012345678901234567890.5"), new BigDecimal("-99999999999999999999.99"),
+            new BigDecimal("999999999999999999999999999999.99"), new BigDecimal("-100000000000000000000"),
+            new BigDecimal("1000000000000000000000000000000"), NumberType.BIG_DECIMAL},
+        {"bigInteger", new BigInteger("123456789012345678901234567890"), new BigInteger("-99999999999999999999"),
+            new BigInteger("999999999999999999999999999999"), new BigInteger("-100000000000000000000"),
+            new BigInteger("1000000000000000000000000000000"), NumberType.BIG_INTEGER}});
   }
 
   public NumberValidationTestCase(String name, Number value, Number minValue, Number maxValue, Number lowerBoundaryViolation,
@@ -68,6 +76,14 @@ public class NumberValidationTestCase extends ValidationTestCase {
                   messages.lowerThan(lowerBoundaryViolation, minValue));
   }
 
+  @Test
+  public void validateNumberAgainstChangingBounds() throws Exception {
+    assertValid(configureNumberValidationRunner(flowRunner(FLOW_NAME), value, minValue, maxValue));
+    assertValid(configureNumberValidationRunner(flowRunner(FLOW_NAME), value, value, value));
+    assertInvalid(configureNumberValidationRunner(flowRunner(FLOW_NAME), minValue, value, maxValue),
+                  messages.lowerThan(minValue, numberType.toNumber(value, null, null)));
+  }
+
   private FlowRunner configureNumberValidationRunner(FlowRunner runner, Object value, Object minValue, Object maxValue) {
     return runner.withPayload(value).withVariable("minValue", minValue).withVariable("maxValue", maxValue)
         .withVariable("numberType", numberType);
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation;
+
+import static java.util.Arrays.asList;
+
+import org.junit.Test;
+
+public class TldFileTestCase extends ValidationTestCase {
+
+  @Override
+  protected String getConfigFile() {
+    return "tld-file-validations.xml";
+  }
+
+  @Test
+  public void acceptsAddedDomains() throws Exception {
+    // checked by the module, and by commons for the quoted and non ASCII ones
+    for (String email : asList("me@host.zzmulefiletest", "\"me and you\"@host.zzmulefiletest", "jos\u00e9@host.zzmulefiletest",
+                               "me@h\u00f6st.zzmulefiletest")) {
+      assertValid(flowRunner("email").withPayload(email));
+    }
+  }
+
+  @Test
+  public void rejectsUnknownDomains() throws Exception {
+    for (String email : asList("me@host.zzmulefiletests", "\"me and you\"@host.zzmulefiletests")) {
+      assertInvalid(flowRunner("email").withPayload(email), messages.invalidEmail(email));
+    }
+  }
+
+  @Test
+  public void addsDomainsToItsConfigOnly() throws Exception {
+    for (String email : asList("me@host.zzmulefiletest", "\"me and you\"@host.zzmulefiletest")) {
+      assertInvalid(flowRunner("builtInEmail").withPayload(email), messages.invalidEmail(email));
+    }
+    assertValid(flowRunner("builtInEmail").withPayload("me@host.com"));
+  }
+
+  @Test
+  public void acceptsAddedDomainsInUrls() throws Exception {
+    String url = "http://host.zzmulefiletest/path";
+    assertValid(flowRunner("domainUrl").withPayload(url));
+    assertInvalid(flowRunner("builtInDomainUrl").withPayload(url), messages.invalidUrl(url));
+    assertInvalid(flowRunner("domainUrl").withPayload("http://host.zzmulefiletests"),
+                  messages.invalidUrl("http://host.zzmulefiletests"));
+  }
+}
@@ -6,7 +6,9 @@
  */
 package org.mule.extension.validation;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mule.runtime.api.message.Message.of;
 
@@ -65,6 +67,33 @@ public class ValidationElTestCase extends ValidationTestCase {
     assertInvalid(expression, event);
   }
 
+  @Test
+  public void matchesAnyRegex() throws Exception {
+    final String expression = "#[Validation::matchesAnyRegex(payload, vars.regexps, vars.caseSensitive)]";
+
+    CoreEvent event = createEventBuilder().message(of("TRUE"))
+        .addVariable("regexps", asList("[0-9]+", "[tT]rue"))
+        .addVariable("caseSensitive", false)
+        .build();
+    assertValid(expression, event);
+
+    event = CoreEvent.builder(event).addVariable("caseSensitive", true).build();
+    assertInvalid(expression, event);
+  }
+
+  @Test
+  public void matchingRegex() throws Exception {
+    final String expression = "#[Validation::matchingRegex(payload, vars.regexps)]";
+
+    CoreEvent event = createEventBuilder().message(of("123"))
+        .addVariable("regexps", asList("[tT]rue", "[0-9]+", "\\d+"))
+        .build();
+    assertThat(expressionManager.evaluate(expression, event).getValue(), is("[0-9]+"));
+
+    event = CoreEvent.builder(event).message(Message.builder(event.getMessage()).value("false").build()).build();
+    assertThat(expressionManager.evaluate(expression, event).getValue(), is(nullValue()));
+  }
+
   @Test
   public void isTime() throws Exception {
     final String time = "12:08 PM";
@@ -91,6 +120,8 @@ public class ValidationElTestCase extends ValidationTestCase {
     assertNumberValue(expression, NumberType.SHORT, new Short("100").toString());
     assertNumberValue(expression, NumberType.DOUBLE, "10");
     assertNumberValue(expression, NumberType.FLOAT, "10");
+    assertNumberValue(expression, NumberType.BIG_DECIMAL, "123456789012345678901234567890.5");
+    assertNumberValue(expression, NumberType.BIG_INTEGER, "123456789012345678901234567890");
   }
 
   @Test
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BoundedCacheTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void keysOnAllTheParts() {
+    AtomicInteger loads = new AtomicInteger();
+    BoundedCache<String> cache = new BoundedCache<>(8, key -> key.get(0) + "/" + key.get(1) + "/" + loads.incrementAndGet());
+    String value = cache.get("pattern", true, null);
+    assertThat(cache.get("pattern", true, null), is(sameInstance(value)));
+    assertThat(cache.get("pattern", false, null), is("pattern/false/2"));
+    assertThat(cache.get(asList("pattern"), true, null), is("[pattern]/true/3"));
+    assertThat(cache.stats().hitCount(), is(1L));
+    assertThat(cache.stats().missCount(), is(3L));
+  }
+
+  @Test
+  public void doesNotCacheNull() {
+    AtomicInteger loads = new AtomicInteger();
+    BoundedCache<String> cache = new BoundedCache<>(8, key -> loads.incrementAndGet() == 1 ? null : "value");
+    assertThat(cache.get("key"), is(nullValue()));
+    assertThat(cache.get("key"), is("value"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rethrowsUncheckedExceptions() {
+    new BoundedCache<String>(8, key -> {
+      throw new IllegalArgumentException("invalid");
+    }).get("key");
+  }
+
+  @Test
+  public void evictsWhenFull() {
+    BoundedCache<Integer> cache = new BoundedCache<>(2, key -> key.get(0));
+    for (int i = 0; i < 10; i++) {
+      cache.get(i);
+    }
+    assertThat(cache.stats().evictionCount(), is(8L));
+  }
+
+  @Test
+  public void growsKeepingValuesAndStatistics() {
+    BoundedCache<Object> cache = new BoundedCache<>(2, key -> new Object());
+    Object value = cache.get("key");
+    BoundedCache<Object> grown = cache.withCapacity(8);
+    assertThat(grown.capacity(), is(8));
+    assertThat(grown.get("key"), is(sameInstance(value)));
+    assertThat(grown.get("other"), is(not(sameInstance(value))));
+    assertThat(grown.stats().missCount(), is(2L));
+    assertThat(grown.stats().hitCount(), is(1L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNegativeCapacity() {
+    new BoundedCache<>(-1, key -> key);
+  }
+}
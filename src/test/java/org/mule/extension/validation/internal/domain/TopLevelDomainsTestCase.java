@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Locale.ENGLISH;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.api.ValidationExtension;
+import org.mule.extension.validation.internal.email.EmailSyntax;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.apache.commons.validator.routines.DomainValidator;
+import org.apache.commons.validator.routines.DomainValidator.ArrayType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TopLevelDomainsTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void containsCommonsDomainsIgnoringCase() {
+    TopLevelDomains domains = TopLevelDomains.builtIn();
+    for (ArrayType table : asList(ArrayType.INFRASTRUCTURE_RO, ArrayType.GENERIC_RO, ArrayType.COUNTRY_CODE_RO)) {
+      for (String domain : DomainValidator.getTLDEntries(table)) {
+        assertThat(domain, domains.contains(domain), is(true));
+        assertThat(domain, domains.contains(domain.toUpperCase(ENGLISH)), is(true));
+      }
+    }
+    for (String domain : DomainValidator.getTLDEntries(ArrayType.LOCAL_RO)) {
+      assertThat(domain, domains.contains(domain), is(DomainValidator.getInstance().isValidTld(domain)));
+    }
+  }
+
+  @Test
+  public void matchesCommonsOnRandomLabels() {
+    Random random = new Random(42);
+    String chars = "acmoORZ0-";
+    for (int i = 0; i < 100000; i++) {
+      StringBuilder label = new StringBuilder();
+      for (int length = 1 + random.nextInt(4); length > 0; length--) {
+        label.append(chars.charAt(random.nextInt(chars.length())));
+      }
+      assertThat(label.toString(), TopLevelDomains.builtIn().contains(label),
+                 is(DomainValidator.getInstance().isValidTld(label.toString())));
+    }
+  }
+
+  @Test
+  public void buildsEquivalentDomainValidator() {
+    TopLevelDomains domains = new TopLevelDomains(asList("com", "zzmuletest", "xn--p1ai"));
+    DomainValidator validator = domains.toDomainValidator();
+    for (String domain : asList("com", "COM", "zzmuletest", "xn--p1ai", "\u0440\u0444")) {
+      assertThat(domain, validator.isValidTld(domain), is(true));
+    }
+    for (String domain : asList("org", "io", "localhost", "zzmuletes")) {
+      assertThat(domain, validator.isValidTld(domain), is(false));
+    }
+    assertThat(domains.toDomainValidator(), is(sameInstance(validator)));
+
+    validator = TopLevelDomains.builtIn().toDomainValidator();
+    for (ArrayType table : asList(ArrayType.INFRASTRUCTURE_RO, ArrayType.GENERIC_RO, ArrayType.COUNTRY_CODE_RO,
+                                  ArrayType.LOCAL_RO)) {
+      for (String domain : DomainValidator.getTLDEntries(table)) {
+        assertThat(domain, validator.isValidTld(domain), is(TopLevelDomains.builtIn().contains(domain)));
+      }
+    }
+  }
+
+  @Test
+  public void looksUpRegions() {
+    TopLevelDomains domains = new TopLevelDomains(asList("com", "co", "xn--p1ai"));
+    assertThat(domains.size(), is(3));
+    assertThat(domains.contains("example.COM", 8, 11), is(true));
+    assertThat(domains.contains("example.com", 8, 10), is(true));
+    assertThat(domains.contains("example.com", 9, 11), is(false));
+    assertThat(domains.contains("example.com", 8, 8), is(false));
+    assertThat(domains.contains("c"), is(false));
+    assertThat(domains.contains("comm"), is(false));
+    assertThat(domains.contains("XN--P1AI"), is(true));
+    assertThat(domains.contains("\u0441om"), is(false));
+  }
+
+  @Test
+  public void addsDomainsFromIanaList() throws IOException {
+    Path file = folder.newFile("tlds-alpha-by-domain.txt").toPath();
+    Files.write(file, asList("# Version 2099010100, Last Updated Thu Jan  1 07:07:01 2099 UTC", "COM", "ZZMULETEST",
+                             "XN--ZZMULETEST-ABC", ""),
+                UTF_8);
+    TopLevelDomains domains = TopLevelDomains.builtIn().plus(TopLevelDomains.read(file));
+    assertThat(domains.contains("ZzMuleTest"), is(true));
+    assertThat(domains.contains("com"), is(true));
+    assertThat(EmailSyntax.isValid("me@host.zzmuletest", domains), is(true));
+    assertThat(EmailSyntax.isValid("me@host.xn--zzmuletest-abc", domains), is(true));
+    // addresses which commons validates
+    assertThat(EmailSyntax.isValid("\"me and you\"@host.zzmuletest", domains), is(true));
+    assertThat(EmailSyntax.isValid("jos\u00e9@host.zzmuletest", domains), is(true));
+    assertThat(EmailSyntax.isValid("me@h\u00f6st.zzmuletest", domains), is(true));
+    assertThat(EmailSyntax.isValid("\"me and you\"@host.zzmuletests", domains), is(false));
+
+    // the built in domains are left as they were
+    assertThat(TopLevelDomains.builtIn().contains("zzmuletest"), is(false));
+    assertThat(EmailSyntax.isValid("me@host.zzmuletest"), is(false));
+    assertThat(EmailSyntax.isValid("\"me and you\"@host.zzmuletest"), is(false));
+  }
+
+  @Test
+  public void addsNothingNew() {
+    TopLevelDomains domains = TopLevelDomains.builtIn();
+    assertThat(domains.plus(asList("COM", "org")), is(sameInstance(domains)));
+  }
+
+  @Test
+  public void scopesDomainsToTheConfig() throws Exception {
+    Path file = folder.newFile("tlds-alpha-by-domain.txt").toPath();
+    Files.write(file, asList("COM", "ZZMULETEST"), UTF_8);
+    ValidationExtension config = new ValidationExtension();
+    config.setTldFile(file.toString());
+    config.initialise();
+    assertThat(config.getTopLevelDomains().contains("zzmuletest"), is(true));
+    assertThat(new ValidationExtension().getTopLevelDomains().contains("zzmuletest"), is(false));
+
+    config.setTldFile(null);
+    config.initialise();
+    assertThat(config.getTopLevelDomains(), is(sameInstance(TopLevelDomains.builtIn())));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsInvalidDomains() throws IOException {
+    Path file = folder.newFile("tlds.txt").toPath();
+    Files.write(file, asList("COM", "NOT A DOMAIN"), UTF_8);
+    TopLevelDomains.read(file);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.email;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringEscapeUtils.unescapeJava;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.validator.routines.EmailValidator;
+import org.junit.Test;
+
+public class EmailSyntaxTestCase extends AbstractMuleTestCase {
+
+  private static final String CORPUS = "/email-corpus.txt";
+
+  @Test
+  public void corpus() throws IOException {
+    for (String line : readCorpus()) {
+      int space = line.indexOf(' ');
+      boolean valid = (space < 0 ? line : line.substring(0, space)).equals("valid");
+      String email = space < 0 ? "" : unescapeJava(line.substring(space + 1));
+      assertThat(line, EmailSyntax.isValid(email), is(valid));
+      assertThat(line, EmailValidator.getInstance().isValid(email), is(valid));
+    }
+  }
+
+  @Test
+  public void matchesCommonsOnRandomAddresses() {
+    Random random = new Random(42);
+    String local = "abcXY09_+'!#$%&*/=?^`{|}~";
+    String domain = "abcXYZ019-";
+    String noise = "abX09-._'+!#\\\"@ \t\n()[]<>,;:\u007f\u00e9";
+    String[] tlds = {"com", "COM", "org", "io", "arpa", "local", "xn--p1ai", "zz", "c0m", "Museum", "a-b"};
+    for (int i = 0; i < 100000; i++) {
+      StringBuilder email = new StringBuilder();
+      int words = 1 + random.nextInt(3);
+      for (int w = 0; w < words; w++) {
+        if (w > 0) {
+          email.append('.');
+        }
+        append(email, local, 1 + random.nextInt(random.nextInt(10) == 0 ? 70 : 5), random);
+      }
+      email.append('@');
+      int labels = 1 + random.nextInt(4);
+      for (int l = 0; l < labels; l++) {
+        append(email, domain, 1 + random.nextInt(random.nextInt(10) == 0 ? 70 : 6), random);
+        email.append('.');
+      }
+      email.append(tlds[random.nextInt(tlds.length)]);
+      for (int m = random.nextInt(3); m > 0; m--) {
+        email.setCharAt(random.nextInt(email.length()), noise.charAt(random.nextInt(noise.length())));
+      }
+      String address = email.toString();
+      assertThat(address, EmailSyntax.isValid(address), is(EmailValidator.getInstance().isValid(address)));
+    }
+  }
+
+  private static void append(StringBuilder builder, String chars, int count, Random random) {
+    for (int i = 0; i < count; i++) {
+      builder.append(chars.charAt(random.nextInt(chars.length())));
+    }
+  }
+
+  private static List<String> readCorpus() throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(EmailSyntaxTestCase.class.getResourceAsStream(CORPUS), UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.startsWith("#")) {
+          lines.add(line);
+        }
+      }
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.internal.ip.address.IPAddress;
+import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+public class IpDecisionCacheTestCase extends AbstractMuleTestCase {
+
+  private final IPAddressFactory factory = new IPAddressFactory();
+
+  @Test
+  public void answersRepeatedLookupsFromTheCache() {
+    IpDecisionCache cache = new IpDecisionCache(16);
+    CountingFilter filter = new CountingFilter(address -> address.getValue().startsWith("10."));
+    IpFilter cached = cache.wrap(filter);
+
+    assertThat(contains(cached, "10.0.0.1"), is(true));
+    assertThat(contains(cached, "10.0.0.1"), is(true));
+    assertThat(contains(cached, "192.168.0.1"), is(false));
+    assertThat(contains(cached, "192.168.0.1"), is(false));
+    assertThat(contains(cached, "192.168.0.1"), is(false));
+
+    assertThat(filter.lookups, is(2));
+    assertThat(cache.getMisses(), is(2L));
+    assertThat(cache.getHits(), is(3L));
+  }
+
+  @Test
+  public void roundsCapacityUp() {
+    assertThat(new IpDecisionCache(1).capacity(), is(4));
+    assertThat(new IpDecisionCache(5).capacity(), is(8));
+    assertThat(new IpDecisionCache(64).capacity(), is(64));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsEmptyCapacity() {
+    new IpDecisionCache(0);
+  }
+
+  @Test
+  public void evictsPastCapacity() {
+    // a single set of 4 slots
+    IpDecisionCache cache = new IpDecisionCache(4);
+    CountingFilter filter = new CountingFilter(address -> true);
+    IpFilter cached = cache.wrap(filter);
+
+    for (String ip : asList("10.0.0.1", "10.0.0.2", "10.0.0.3", "10.0.0.4")) {
+      contains(cached, ip);
+    }
+    // spares the slots used since the hand went by
+    contains(cached, "10.0.0.1");
+    contains(cached, "10.0.0.5");
+    assertThat(filter.lookups, is(5));
+
+    contains(cached, "10.0.0.1");
+    contains(cached, "10.0.0.5");
+    assertThat(filter.lookups, is(5));
+    contains(cached, "10.0.0.2");
+    assertThat(filter.lookups, is(6));
+    assertThat(cache.getHits(), is(3L));
+  }
+
+  @Test
+  public void forgetsAnswersOfReplacedFilters() {
+    IpDecisionCache cache = new IpDecisionCache(16);
+    IpFilter previous = cache.wrap(new CountingFilter(address -> true));
+    assertThat(contains(previous, "10.0.0.1"), is(true));
+
+    CountingFilter filter = new CountingFilter(address -> false);
+    IpFilter current = cache.wrap(filter);
+    assertThat(contains(current, "10.0.0.1"), is(false));
+    assertThat(contains(current, "10.0.0.1"), is(false));
+    assertThat(filter.lookups, is(1));
+
+    // the previous filter does not see the answers of the current one either
+    assertThat(contains(previous, "10.0.0.1"), is(true));
+  }
+
+  @Test
+  public void keysOnTheAddressFamily() {
+    IpDecisionCache cache = new IpDecisionCache(16);
+    CountingFilter filter = new CountingFilter(address -> address.getLiteral().isIpv4());
+    IpFilter cached = cache.wrap(filter);
+
+    assertThat(contains(cached, "1.2.3.4"), is(true));
+    assertThat(contains(cached, "::ffff:1.2.3.4"), is(false));
+    assertThat(contains(cached, "::ffff:102:304"), is(false));
+    assertThat(filter.lookups, is(2));
+  }
+
+  @Test
+  public void bypassesAddressesWhoseTextMatters() {
+    IpDecisionCache cache = new IpDecisionCache(16);
+    CountingFilter filter = new CountingFilter(address -> true);
+    IpFilter cached = cache.wrap(filter);
+
+    for (String ip : asList("010.0.0.1", "010.0.0.1", "fe80::1%eth0", "fe80::1%eth0")) {
+      assertThat(ip, contains(cached, ip), is(true));
+    }
+    assertThat(filter.lookups, is(4));
+    assertThat(cache.getHits(), is(0L));
+    assertThat(cache.getMisses(), is(0L));
+  }
+
+  private boolean contains(IpFilter filter, String ip) {
+    return filter.contains(factory.create(ip));
+  }
+
+  private static final class CountingFilter implements IpFilter {
+
+    private final Predicate<IPAddress> answer;
+    private int lookups;
+
+    private CountingFilter(Predicate<IPAddress> answer) {
+      this.answer = answer;
+    }
+
+    @Override
+    public boolean contains(IPAddress address) {
+      lookups++;
+      return answer.test(address);
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+}
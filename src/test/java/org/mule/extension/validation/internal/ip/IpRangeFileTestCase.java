@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.util.Arrays.asList;
+import static java.util.Arrays.copyOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.internal.ip.address.IPAddressFactory;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IpRangeFileTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> RANGES = asList("10.0.0.0/24", "10.0.1.0/24", "10.0.0.128/25", "192.168.7.1",
+                                                    "::ffff:172.16.0.0/16", "2001:db8::/48", "2001:db8:1::/48",
+                                                    "2001:db8:5::1");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final IPAddressFactory factory = new IPAddressFactory();
+  private Path path;
+
+  @Before
+  public void writeFile() throws IOException {
+    path = folder.newFile("ranges.bin").toPath();
+    IpRangeFile.write(RANGES, path);
+  }
+
+  @Test
+  public void mergesOverlappingAndAdjacentRanges() throws IOException {
+    assertThat(IpRangeFile.isRangeFile(path), is(true));
+    assertThat(IpRangeFile.open(path).size(), is(5));
+  }
+
+  @Test
+  public void matchesLikeTheIndex() throws IOException {
+    IpFilter file = IpRangeFile.open(path);
+    IpFilter index = IpRangeIndex.compile(RANGES);
+    for (String ip : asList("10.0.0.0", "10.0.1.255", "10.0.2.0", "9.255.255.255", "192.168.7.1", "192.168.7.2",
+                            "172.16.200.1", "172.17.0.0", "2001:db8::1", "2001:db8:1:ffff::", "2001:db8:2::",
+                            "2001:db8:5::1", "2001:db8:5::2", "::1")) {
+      assertThat(ip, file.contains(factory.create(ip)), is(index.contains(factory.create(ip))));
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void rejectsTruncatedFile() throws IOException {
+    byte[] content = Files.readAllBytes(path);
+    Files.write(path, copyOf(content, content.length - 4));
+    IpRangeFile.open(path);
+  }
+
+  @Test
+  public void textFileIsNotARangeFile() throws IOException {
+    Path text = folder.newFile("ranges.txt").toPath();
+    Files.write(text, RANGES);
+    assertThat(IpRangeFile.isRangeFile(text), is(false));
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import org.junit.Test;
+
+public class IpRangeIndexTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void compilesEveryKindOfEntry() {
+    IpRangeIndex index = IpRangeIndex.compile(asList("10.0.0.0/8", "192.168.1.1", "2001:db8::/32", "172.16", "10."));
+    assertThat(index.size(), is(5));
+  }
+
+  @Test
+  public void reportsEveryMalformedEntry() {
+    try {
+      IpRangeIndex.compile(asList("10.0.0.0/8", "10.0.0.0/99", "2001:db8::/129", "10.0.0.0/-1", "10.0.0.0/x", "localhost"));
+      fail("Malformed entries were accepted");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), allOf(containsString("'10.0.0.0/99'"), containsString("'2001:db8::/129'"),
+                                       containsString("'10.0.0.0/-1'"), containsString("'10.0.0.0/x'"),
+                                       containsString("'localhost'")));
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.ip;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class RemoteAddressTestCase extends AbstractMuleTestCase {
+
+  // the expression which was used before RemoteAddress, its results are pinned for every text not starting with a bracket
+  private static final Pattern REMOTE_ADDRESS_PATTERN = Pattern.compile("([^/]*)/(.*):(.*)");
+
+  private static final List<String> CORPUS = asList("", "/", ":", "/:", "10.0.0.1", "/10.0.0.1:8080", "host/10.0.0.1:8080",
+                                                    "host.example.com/192.168.1.1:443", "/10.0.0.1", "10.0.0.1:80",
+                                                    "2001:db8::1", "/2001:db8::1:8080", "host/fe80::1%eth0:80",
+                                                    "a/b/c:d:e", "a:b/c", "/a\n/b:c", "/a:b\n/c:d", "/a\r\n:b", "/x\u2028:1",
+                                                    "/x\u0085y:1", "//:", "a/b/c", "x/[:z", "\n/1.2.3.4:5",
+                                                    "1.2.3.4/24:x");
+
+  @Test
+  public void matchesTheRegularExpression() {
+    for (String text : CORPUS) {
+      assertThat(text, RemoteAddress.extract(text), is(legacy(text)));
+    }
+  }
+
+  @Test
+  public void matchesTheRegularExpressionOnRandomTexts() {
+    Random random = new Random(42);
+    String alphabet = "/:.1a\n\r\u0085\u2028\u2029";
+    for (int i = 0; i < 100000; i++) {
+      StringBuilder text = new StringBuilder();
+      int length = random.nextInt(12);
+      for (int j = 0; j < length; j++) {
+        text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+      assertThat(text.toString(), RemoteAddress.extract(text.toString()), is(legacy(text.toString())));
+    }
+  }
+
+  @Test
+  public void stripsBrackets() {
+    assertThat(RemoteAddress.extract("/[::1]:8080"), is("::1"));
+    assertThat(RemoteAddress.extract("/[::1]"), is("::1"));
+    assertThat(RemoteAddress.extract("host/[2001:db8::1]:443"), is("2001:db8::1"));
+    assertThat(RemoteAddress.extract("[fe80::1%1]"), is("fe80::1%1"));
+    assertThat(RemoteAddress.extract("[::1]:80"), is("::1"));
+    assertThat(RemoteAddress.extract("[::1]:"), is("[::1]:"));
+    assertThat(RemoteAddress.extract("[::1]:8a"), is("[::1]:8a"));
+  }
+
+  @Test
+  public void returnsTheSameInstanceWhenNothingIsStripped() {
+    String ip = "10.0.0.1";
+    assertThat(RemoteAddress.extract(ip), is(sameInstance(ip)));
+  }
+
+  private static String legacy(String text) {
+    Matcher matcher = REMOTE_ADDRESS_PATTERN.matcher(text);
+    return matcher.find() ? matcher.group(2) : text;
+  }
+}
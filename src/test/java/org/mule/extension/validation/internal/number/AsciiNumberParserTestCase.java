@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import static org.mule.extension.validation.internal.number.AsciiNumberParser.INVALID;
+import static org.mule.extension.validation.internal.number.AsciiNumberParser.UNDECIDED;
+import static org.mule.extension.validation.internal.number.AsciiNumberParser.VALID;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.api.NumberType;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.commons.validator.routines.DoubleValidator;
+import org.apache.commons.validator.routines.FloatValidator;
+import org.apache.commons.validator.routines.IntegerValidator;
+import org.apache.commons.validator.routines.LongValidator;
+import org.apache.commons.validator.routines.ShortValidator;
+import org.junit.Test;
+
+public class AsciiNumberParserTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> VALUES = asList("0", "-0", "00", "-00", "7", "-7", "0012", "12.", "12,", "12.5", "12,5",
+                                                    "-12.50", "0.1", ".5", "-.5", "1.2.3", "1,2,3", "1.234,5", "32767",
+                                                    "32768", "-32768", "-32769", "2147483647", "2147483648", "-2147483648",
+                                                    "-2147483649", "9223372036854775807", "9223372036854775808",
+                                                    "-9223372036854775808", "-9223372036854775809", "99999999999999999999",
+                                                    "-99999999999999999999E-19", "-92233720368547758080E-1",
+                                                    "123456789012345", "1234567890123456", "0.30000000000000004",
+                                                    "3.4028235E38", "340282350000000000000000000000000000000",
+                                                    "340282360000000000000000000000000000000", "0.000000000000000000001",
+                                                    "0.0000000000000000000000000000000000000000000001",
+                                                    "0.000000000000000000000000000000000000000000001", "1e3", "-", "", "+1",
+                                                    "--1", "1-", " 1", "1 ", "1 000", "\u0661", "NaN", "\u221e");
+
+  private static final List<Locale> LOCALES = asList(null, Locale.ENGLISH, Locale.US, Locale.GERMANY, Locale.FRANCE,
+                                                     new Locale("de", "CH"), new Locale("ar"), new Locale("ar", "EG"),
+                                                     new Locale("fa"), new Locale("sv"), new Locale("hi", "IN"),
+                                                     new Locale("th", "TH", "TH"), new Locale("he"));
+
+  @Test
+  public void decidesPlainNumbers() {
+    AsciiNumberParser parser = new AsciiNumberParser();
+    assertThat(parser.parseInteger("-1234", Locale.ENGLISH, Long.MIN_VALUE, Long.MAX_VALUE), is(VALID));
+    assertThat(parser.getInteger(), is(-1234L));
+    assertThat(parser.parseInteger("1234", Locale.ENGLISH, Short.MIN_VALUE, 1000), is(INVALID));
+    assertThat(parser.parseInteger("1,234", Locale.ENGLISH, Long.MIN_VALUE, Long.MAX_VALUE), is(UNDECIDED));
+    assertThat(parser.parseInteger("99999999999999999999", Locale.ENGLISH, Long.MIN_VALUE, Long.MAX_VALUE), is(UNDECIDED));
+    assertThat(parser.parseInteger("-99999999999999999999E-19", Locale.ENGLISH, Short.MIN_VALUE, Short.MAX_VALUE),
+               is(UNDECIDED));
+    assertThat(parser.parseDecimal("12,5", Locale.GERMANY), is(VALID));
+    assertThat(parser.getDecimal(), is(12.5));
+    assertThat(parser.parseDecimal("1e3", Locale.ENGLISH), is(UNDECIDED));
+    assertThat(parser.parseDecimal("", Locale.ENGLISH), is(INVALID));
+  }
+
+  @Test
+  public void parsesAsCommonsValidators() {
+    for (String value : VALUES) {
+      for (Locale locale : LOCALES) {
+        assertParsesAsCommonsValidators(value, locale);
+      }
+    }
+  }
+
+  @Test
+  public void parsesRandomValuesAsCommonsValidators() {
+    Random random = new Random(42);
+    String alphabet = "0123456789000999-.,";
+    for (int i = 0; i < 20000; i++) {
+      StringBuilder value = new StringBuilder();
+      int length = 1 + random.nextInt(24);
+      for (int j = 0; j < length; j++) {
+        value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+      assertParsesAsCommonsValidators(value.toString(), LOCALES.get(random.nextInt(LOCALES.size())));
+    }
+  }
+
+  private void assertParsesAsCommonsValidators(String value, Locale locale) {
+    String context = value + " in " + locale;
+    assertThat(context, NumberType.INTEGER.toNumber(value, null, locale),
+               is(IntegerValidator.getInstance().validate(value, locale)));
+    assertThat(context, NumberType.LONG.toNumber(value, null, locale), is(LongValidator.getInstance().validate(value, locale)));
+    assertThat(context, NumberType.SHORT.toNumber(value, null, locale),
+               is(ShortValidator.getInstance().validate(value, locale)));
+    assertThat(context, NumberType.DOUBLE.toNumber(value, null, locale),
+               is(DoubleValidator.getInstance().validate(value, locale)));
+    assertThat(context, NumberType.FLOAT.toNumber(value, null, locale),
+               is(FloatValidator.getInstance().validate(value, locale)));
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import static org.mule.extension.validation.api.NumberType.BIG_DECIMAL;
+import static org.mule.extension.validation.api.NumberType.BIG_INTEGER;
+import static org.mule.extension.validation.internal.number.BigNumberParser.INVALID;
+import static org.mule.extension.validation.internal.number.BigNumberParser.MAX_DIGITS;
+import static org.mule.extension.validation.internal.number.BigNumberParser.PRECISION_EXCEEDED;
+import static org.mule.extension.validation.internal.number.BigNumberParser.SCALE_EXCEEDED;
+import static org.mule.extension.validation.internal.number.BigNumberParser.VALID;
+
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMANY;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.api.NumberType;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class BigNumberParserTestCase extends AbstractMuleTestCase {
+
+  private final BigNumberParser decimals = new BigNumberParser(BIG_DECIMAL);
+  private final BigNumberParser integers = new BigNumberParser(BIG_INTEGER);
+
+  @Test
+  public void parsesPlainDecimalsExactly() {
+    assertDecimal("12345678901234567890.123456789", ENGLISH, "12345678901234567890.123456789", 9, 29);
+    assertDecimal(" -0.000120 ", ENGLISH, "-0.000120", 6, 3);
+    assertDecimal("1,234,567.5", ENGLISH, "1234567.5", 1, 8);
+    assertDecimal("1.234.567,5", GERMANY, "1234567.5", 1, 8);
+    assertDecimal("000", ENGLISH, "0", 0, 1);
+    assertDecimal("0.00", ENGLISH, "0.00", 2, 1);
+    assertDecimal("5.", ENGLISH, "5", 0, 1);
+    assertDecimal(".5", ENGLISH, "0.5", 1, 1);
+    assertDecimal("\u0661\u0662.\u0663", ENGLISH, "12.3", 1, 3);
+  }
+
+  @Test
+  public void rejectsMalformedDecimals() {
+    for (String value : Arrays.asList("", " ", "-", ".", "1.2.3", "1,,234", ",123", "123,", "1.5,000", "1e3", "+1", "--1",
+                                      "1-", "NaN", "\u221e", "0x10", "1 000")) {
+      assertThat(value, decimals.parse(value, null, ENGLISH, null, null), is(INVALID));
+      assertThat(value, decimals.getValue(), is(nullValue()));
+    }
+    assertThat(decimals.parse(null, null, ENGLISH, null, null), is(INVALID));
+  }
+
+  @Test
+  public void parsesPlainIntegersExactly() {
+    assertThat(integers.parse("-123,456,789,012,345,678,901,234,567,890", null, ENGLISH, null, null), is(VALID));
+    assertThat(integers.getValue(), is(new BigInteger("-123456789012345678901234567890")));
+    assertThat(integers.getPrecision(), is(30));
+    assertThat(integers.parse("12.0", null, ENGLISH, null, null), is(INVALID));
+    assertThat(integers.parse("12.0", null, GERMANY, null, null), is(VALID));
+    assertThat(integers.getValue(), is(BigInteger.valueOf(120)));
+  }
+
+  @Test
+  public void checksLimitsBeforeCreating() {
+    assertThat(decimals.parse("123.456", null, ENGLISH, 3, 6), is(VALID));
+    assertThat(decimals.parse("123.456", null, ENGLISH, 2, 6), is(SCALE_EXCEEDED));
+    assertThat(decimals.getValue(), is(nullValue()));
+    assertThat(decimals.parse("123.456", null, ENGLISH, 3, 5), is(PRECISION_EXCEEDED));
+    assertThat(decimals.parse("000123.4560", null, ENGLISH, null, 7), is(VALID));
+    assertThat(integers.parse("100000", null, ENGLISH, 0, 5), is(PRECISION_EXCEEDED));
+  }
+
+  @Test
+  public void rejectsHugeValues() {
+    char[] digits = new char[MAX_DIGITS];
+    Arrays.fill(digits, '9');
+    String largest = new String(digits);
+    assertThat(decimals.parse(largest, null, ENGLISH, null, null), is(VALID));
+    assertThat(decimals.parse(largest + "9", null, ENGLISH, null, null), is(INVALID));
+    assertThat(decimals.parse("0." + largest, null, ENGLISH, null, null), is(INVALID));
+    assertThat(decimals.parse(largest + "9", "#,##0.###", ENGLISH, null, null), is(INVALID));
+    assertThat(decimals.parse("1E999999999", "0.###E0", ENGLISH, null, null), is(INVALID));
+    assertThat(integers.parse("1E999999999", "0.###E0", ENGLISH, null, null), is(INVALID));
+
+    char[] huge = new char[10 * 1024 * 1024];
+    Arrays.fill(huge, '9');
+    huge[0] = ' ';
+    huge[huge.length - 1] = ' ';
+    assertThat(decimals.parse(new String(huge), "#,##0.###", ENGLISH, null, null), is(INVALID));
+    assertThat(integers.parse(new String(huge), "#", ENGLISH, null, null), is(INVALID));
+  }
+
+  @Test
+  public void parsesWithPattern() {
+    assertThat(decimals.parse("12,345,678,901,234,567,890.12", "#,##0.00", ENGLISH, 2, 22), is(VALID));
+    assertThat(decimals.getValue(), is(new BigDecimal("12345678901234567890.12")));
+    assertThat(decimals.parse("1.5E3", "0.###E0", ENGLISH, 0, 4), is(VALID));
+    assertThat(((BigDecimal) decimals.getValue()).compareTo(new BigDecimal("1500")), is(0));
+    assertThat(decimals.getPrecision(), is(4));
+    assertThat(decimals.parse("12.5%", "#.#%", ENGLISH, 2, null), is(SCALE_EXCEEDED));
+    assertThat(decimals.parse("12.5 apples", "#.#", ENGLISH, null, null), is(INVALID));
+    assertThat(decimals.parse(" 1,234.5 ", "#,##0.0", ENGLISH, null, null), is(VALID));
+    assertThat(decimals.getValue(), is(new BigDecimal("1234.5")));
+    assertThat(integers.parse("1234", "#", ENGLISH, null, null), is(VALID));
+    assertThat(integers.getValue(), is(BigInteger.valueOf(1234)));
+    assertThat(integers.parse("12.5", "#.#", ENGLISH, null, null), is(INVALID));
+    assertThat(integers.parse("1500%", "#%", ENGLISH, null, null), is(VALID));
+    assertThat(integers.getValue(), is(BigInteger.valueOf(15)));
+    assertThat(integers.parse("150%", "#%", ENGLISH, null, null), is(INVALID));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsOtherTypes() {
+    new BigNumberParser(NumberType.DOUBLE);
+  }
+
+  private void assertDecimal(String text, Locale locale, String expected, int scale, int precision) {
+    assertThat(text, decimals.parse(text, null, locale, null, null), is(VALID));
+    assertThat(text, decimals.getValue(), is(new BigDecimal(expected)));
+    assertThat(text, decimals.getScale(), is(scale));
+    assertThat(text, decimals.getPrecision(), is(precision));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.number;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.validator.routines.DoubleValidator;
+import org.apache.commons.validator.routines.FloatValidator;
+import org.apache.commons.validator.routines.IntegerValidator;
+import org.apache.commons.validator.routines.LongValidator;
+import org.apache.commons.validator.routines.ShortValidator;
+import org.junit.Test;
+
+public class NumberFormatCacheTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> VALUES = asList("0", "12", "-12", "1,234", "1.234", "1.234,5", "1,234.5", " 42 ", "",
+                                                    "32767", "32768", "2147483648", "-9223372036854775808",
+                                                    "9223372036854775808", "1e3", "1E3", "12%", "\u00a412", "0x1F", "abc",
+                                                    "3.4028236E38", "1.0E-46", "12\u00a0345", "12\u202f345", "\u0661\u0662");
+
+  private static final List<String> PATTERNS = asList(null, "#,##0.00", "0.###E0", "#%", "#");
+
+  private static final List<Locale> LOCALES = asList(null, Locale.ENGLISH, Locale.GERMANY, Locale.FRANCE,
+                                                     new Locale("ar", "EG"), new Locale("de", "CH"));
+
+  @Test
+  public void parsesAsCommonsValidators() {
+    for (String value : VALUES) {
+      for (String pattern : PATTERNS) {
+        for (Locale locale : LOCALES) {
+          String context = value + " with " + pattern + " in " + locale;
+          assertThat(context, NumberFormatCache.INTEGER.validate(value, pattern, locale),
+                     is(IntegerValidator.getInstance().validate(value, pattern, locale)));
+          assertThat(context, NumberFormatCache.LONG.validate(value, pattern, locale),
+                     is(LongValidator.getInstance().validate(value, pattern, locale)));
+          assertThat(context, NumberFormatCache.SHORT.validate(value, pattern, locale),
+                     is(ShortValidator.getInstance().validate(value, pattern, locale)));
+          assertThat(context, NumberFormatCache.DOUBLE.validate(value, pattern, locale),
+                     is(DoubleValidator.getInstance().validate(value, pattern, locale)));
+          assertThat(context, NumberFormatCache.FLOAT.validate(value, pattern, locale),
+                     is(FloatValidator.getInstance().validate(value, pattern, locale)));
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsInvalidPattern() {
+    NumberFormatCache.DOUBLE.validate("1", "#.#.#", Locale.ENGLISH);
+  }
+
+  @Test
+  public void parsesConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        final long offset = i * 1_000_000L;
+        results.add(executor.submit(() -> {
+          boolean same = true;
+          for (long n = offset; n < offset + 20_000; n++) {
+            String value = String.format(Locale.GERMANY, "%,d", n);
+            same &= Long.valueOf(n).equals(NumberFormatCache.LONG.validate(value, Locale.GERMANY));
+          }
+          return same;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(), is(true));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
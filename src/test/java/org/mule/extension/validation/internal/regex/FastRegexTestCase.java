@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.util.Arrays.asList;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class FastRegexTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> PATTERNS = asList("abc", "ABC-123", "^ABC-.*", "\\Aab.*$", "ab.*\\z", ".*\\.log",
+                                                      "^.*b\\Z", "^[0-9]{10}$", "[0-9]{2,4}", "\\d+", "\\w*", "a?",
+                                                      "ORD-\\d{6}", "ab[0-9]*cd", "a{2}b{1,3}c{2}", "[^a]{0,2}", "^$",
+                                                      "(?:ab)c", "(a)(b)c*", "\\Qa.b\\E.*", "\ud83d\ude00.+x", "[ab]{3}",
+                                                      "\u00e9.?", "x{0}y");
+
+  private static final List<String> INPUTS = asList("", "a", "ab", "abc", "ABC", "aBc", "abcd", "ABC-123", "abc-123",
+                                                    "ABC-", "ABC-xyz", "ABC-x\ny", "ABC-x\n", "app.log", "app.LOG",
+                                                    ".log", "x.log\n", "0123456789", "012345678", "01234567890", "12",
+                                                    "12345", "ORD-123456", "ord-123456", "ORD-12345", "abcd", "ab12cd",
+                                                    "abcdcd", "aabbbcc", "aabcc", "aabbbbcc", "bb", "b", "a.b", "a.bz",
+                                                    "axb", "\ud83d\ude00yx", "\ud83d\ude00x", "\ud83d\ude00\ud83d\ude00x",
+                                                    "aba", "abab", "\u00e9", "\u00c9", "\u00e9\ud83d", "y", "xy", "\n",
+                                                    "ab\n", "b\n", "b\r\n", "\ud83d");
+
+  @Test
+  public void compilesSimpleShapes() {
+    for (String regex : PATTERNS) {
+      assertThat(regex, FastRegex.compile(regex, true), is(notNullValue()));
+      assertThat(regex, FastRegex.compile(regex, false), is(notNullValue()));
+    }
+  }
+
+  @Test
+  public void leavesOtherShapesToTheEngines() {
+    for (String regex : asList("a|b", "(ab)+", "a*b*", ".*a.*", "a$b", "a^", "b\\Ab", "(a)\\1", "a(?=b)", "\\p{Alpha}",
+                               "[a-z]{5000}")) {
+      assertThat(regex, FastRegex.compile(regex, true), is(nullValue()));
+    }
+  }
+
+  @Test
+  public void matchesAsPattern() {
+    for (String regex : PATTERNS) {
+      for (boolean caseSensitive : new boolean[] {true, false}) {
+        Pattern pattern = Pattern.compile(regex, caseSensitive ? 0 : CASE_INSENSITIVE);
+        FastRegex fast = FastRegex.compile(regex, caseSensitive);
+        for (String input : INPUTS) {
+          assertThat(regex + " on " + input, fast.matches(input), is(pattern.matcher(input).matches()));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void matchesAsPatternOnRandomInputs() {
+    Random random = new Random(42);
+    String alphabet = "aAbBc0159-.\n\r\u00e9\ud83d\ude00";
+    for (String regex : PATTERNS) {
+      Pattern pattern = Pattern.compile(regex);
+      FastRegex fast = FastRegex.compile(regex, true);
+      for (int i = 0; i < 2000; i++) {
+        StringBuilder input = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int j = 0; j < length; j++) {
+          input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        assertThat(regex + " on " + input, fast.matches(input), is(pattern.matcher(input).matches()));
+      }
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.util.Arrays.asList;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class LinearRegexTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> PATTERNS = asList("abc", "a.c", "[tT]rue", "[^a-c]+", "\\d{3}-\\d{4}", "(ab|cd)*e?",
+                                                      "^[A-Z][a-z]*$", "\\w+@\\w+\\.com", "a{2,3}", "a{2,}b", "(a|b)+?c",
+                                                      "\\s*\\S+\\s*", "[\\d\\-]+", "[a-]x", "x[-a]", "\\Qa.b\\E",
+                                                      "\\x41\\u0042", "\\0101", "a$", "a\\Z", "a\\z", "\\Aa", "(?:a|)b",
+                                                      "(?<name>x)y", "]}", "[\\W_]", ".*", "\ud83d\ude00.", "[^\ud83d\ude00]",
+                                                      "(a*)*", "(a|ab)(c|bcd)(d*)", "[\u00e9-\u00fc]+");
+
+  private static final List<String> INPUTS = asList("", "a", "abc", "aBc", "ABC", "True", "true", "TRUE", "xyz", "123-4567",
+                                                    "ababe", "cde", "Hello", "hello", "me@host.com", "aa", "aaa", "aaaa",
+                                                    "aab", "abbc", "  word ", "12-3", "ax", "-x", "xa", "a.b", "AB", "A",
+                                                    "a\n", "a\r\n", "a\r", "a\n\n", "a\u2028", "b", "xy", "]}", "_", "\u00e9",
+                                                    "\ud83d\ude00", "\ud83d\ude00a", "\ud83d", "abcd", "\u00fc\u00e9");
+
+  @Test
+  public void matchesAsPattern() {
+    for (String regex : PATTERNS) {
+      for (boolean caseSensitive : new boolean[] {true, false}) {
+        Pattern pattern = Pattern.compile(regex, caseSensitive ? 0 : CASE_INSENSITIVE);
+        LinearRegex linear = LinearRegex.compile(regex, caseSensitive);
+        for (String input : INPUTS) {
+          assertThat(regex + " on " + input, linear.matches(input), is(pattern.matcher(input).matches()));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void matchesAsPatternOnRandomInputs() {
+    Random random = new Random(42);
+    String alphabet = "aAbB01_ .-\n\r\u2029\u00e9";
+    for (String regex : PATTERNS) {
+      Pattern pattern = Pattern.compile(regex);
+      LinearRegex linear = LinearRegex.compile(regex, true);
+      for (int i = 0; i < 2000; i++) {
+        StringBuilder input = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int j = 0; j < length; j++) {
+          input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        assertThat(regex + " on " + input, linear.matches(input), is(pattern.matcher(input).matches()));
+      }
+    }
+  }
+
+  @Test(timeout = 5000)
+  public void doesNotBacktrack() {
+    String input = repeat("a", 10000) + "!";
+    assertThat(LinearRegex.compile("(a+)+$", true).matches(input), is(false));
+    assertThat(LinearRegex.compile("(a|aa)*b", true).matches(input), is(false));
+    assertThat(LinearRegex.compile("(.*a){20}", true).matches(input), is(false));
+  }
+
+  @Test
+  public void rejectsUnsupportedConstructs() {
+    for (String regex : asList("(a)\\1", "a(?=b)", "a(?!b)", "(?<=a)b", "(?<!a)b", "(?>a)", "(?i)a", "a*+", "a++",
+                               "\\p{Alpha}", "[a&&[b]]", "[a[b]]", "\\bword\\b", "(^a)*", "a{5000}", "\\Qab\\E*", "\\R")) {
+      try {
+        LinearRegex.compile(regex, true);
+        fail(regex + " should not be supported");
+      } catch (UnsupportedOperationException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void matchesStreamAsPattern() throws IOException {
+    Random random = new Random(42);
+    String alphabet = "aAbB01_ .-\n\r\u2029\u00e9\ud83d\ude00";
+    for (String regex : PATTERNS) {
+      Pattern pattern = Pattern.compile(regex);
+      LinearRegex linear = LinearRegex.compile(regex, true);
+      for (String input : INPUTS) {
+        assertThat(regex + " on " + input, linear.matches(new ChunkedReader(input, random)),
+                   is(pattern.matcher(input).matches()));
+      }
+      for (int i = 0; i < 2000; i++) {
+        StringBuilder input = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int j = 0; j < length; j++) {
+          input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        assertThat(regex + " on " + input, linear.matches(new ChunkedReader(input.toString(), random)),
+                   is(pattern.matcher(input).matches()));
+      }
+    }
+  }
+
+  @Test
+  public void stopsReadingStreamOnceItCannotMatch() throws IOException {
+    Reader reader = new Reader() {
+
+      private boolean read;
+
+      @Override
+      public int read(char[] buffer, int offset, int length) throws IOException {
+        if (read) {
+          throw new IOException("Read past the mismatch");
+        }
+        read = true;
+        buffer[offset] = '!';
+        return 1;
+      }
+
+      @Override
+      public void close() {}
+    };
+    assertThat(LinearRegex.compile("[a-z]+", true).matches(reader), is(false));
+  }
+
+  @Test(timeout = 5000)
+  public void matchesLongStream() throws IOException {
+    String input = repeat("ab", 500000) + "\r\n";
+    assertThat(LinearRegex.compile("(ab)+\\s*$", true).matches(new StringReader(input)), is(true));
+    assertThat(LinearRegex.compile("(ab)+", true).matches(new StringReader(input)), is(false));
+  }
+
+  /**
+   * Gives the text in chunks of random sizes, splitting surrogate pairs and line terminators apart
+   */
+  private static class ChunkedReader extends Reader {
+
+    private final String text;
+    private final Random random;
+    private int position;
+
+    private ChunkedReader(String text, Random random) {
+      this.text = text;
+      this.random = random;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      if (position == text.length()) {
+        return -1;
+      }
+      int count = Math.min(Math.min(length, 1 + random.nextInt(3)), text.length() - position);
+      text.getChars(position, position + count, buffer, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static org.mule.extension.validation.api.RegexEngine.JAVA;
+import static org.mule.extension.validation.api.RegexEngine.LINEAR;
+
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.api.ValidationExtension;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class RegexCacheTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void reusesCompiledPatterns() {
+    RegexCache cache = new RegexCache(4);
+    CompiledRegex regex = cache.get("[a-z]+", true, JAVA);
+    assertThat(cache.get("[a-z]+", true, JAVA), is(sameInstance(regex)));
+    assertThat(cache.stats().hitCount(), is(1L));
+    assertThat(cache.stats().missCount(), is(1L));
+  }
+
+  @Test
+  public void keysOnCaseSensitivity() {
+    RegexCache cache = new RegexCache(4);
+    assertThat(cache.get("abc", true, JAVA).matches("ABC"), is(false));
+    assertThat(cache.get("abc", false, JAVA).matches("ABC"), is(true));
+    assertThat(cache.get("abc", true, JAVA), is(not(sameInstance(cache.get("abc", false, JAVA)))));
+  }
+
+  @Test
+  public void keysOnEngine() {
+    RegexCache cache = new RegexCache(4);
+    assertThat(cache.get("(ab)+c", true, JAVA), is(instanceOf(JavaRegex.class)));
+    assertThat(cache.get("(ab)+c", true, LINEAR), is(instanceOf(LinearRegex.class)));
+  }
+
+  @Test
+  public void usesFastPathWhateverTheEngine() {
+    RegexCache cache = new RegexCache(4);
+    assertThat(cache.get("^ABC-.*", true, JAVA), is(instanceOf(FastRegex.class)));
+    assertThat(cache.get("^ABC-.*", true, LINEAR), is(instanceOf(FastRegex.class)));
+  }
+
+  @Test
+  public void fallsBackToJavaForUnsupportedExpressions() {
+    CompiledRegex regex = new RegexCache(4).get("(a)\\1", true, LINEAR);
+    assertThat(regex, is(instanceOf(JavaRegex.class)));
+    assertThat(regex.matches("aa"), is(true));
+  }
+
+  @Test
+  public void matchesWithinBudget() {
+    CompiledRegex regex = new RegexCache(4).get("\\w+@\\w+\\.com", true, JAVA);
+    assertThat(regex.matches("me@host.com", 1000), is(true));
+    assertThat(regex.matches("me@host.org", 1000), is(false));
+  }
+
+  @Test(expected = RegexBudgetExceededException.class)
+  public void abortsMatchOverBudget() {
+    new RegexCache(4).get("(.*a){12}", true, JAVA).matches(repeat("a", 64) + "!", 100000);
+  }
+
+  @Test
+  public void linearEngineIgnoresBudget() {
+    CompiledRegex regex = new RegexCache(4).get("(.*a){12}", true, LINEAR);
+    assertThat(regex.matches(repeat("a", 64) + "!", 1), is(false));
+  }
+
+  @Test
+  public void evictsWhenFull() {
+    RegexCache cache = new RegexCache(2);
+    for (int i = 0; i < 10; i++) {
+      cache.get("a{" + i + "}", true, JAVA);
+    }
+    assertThat(cache.stats().evictionCount(), is(8L));
+  }
+
+  @Test
+  public void exposesSharedStatisticsOnTheConfig() {
+    ValidationExtension config = new ValidationExtension();
+    long hits = config.getRegexCacheHits();
+    long misses = config.getRegexCacheMisses();
+
+    String regex = "exposed-" + System.nanoTime() + "[0-9]+";
+    RegexCache.shared().get(regex, true, JAVA);
+    RegexCache.shared().get(regex, true, JAVA);
+    assertThat(config.getRegexCacheMisses(), is(misses + 1));
+    assertThat(config.getRegexCacheHits(), is(hits + 1));
+    assertThat(config.getRegexCacheEvictions(), is(RegexCache.shared().stats().evictionCount()));
+  }
+
+  @Test
+  public void growsKeepingPatternsAndStatistics() {
+    RegexCache cache = new RegexCache(2);
+    CompiledRegex regex = cache.get("x", true, JAVA);
+    cache.ensureCapacity(1);
+    assertThat(cache.capacity(), is(2));
+
+    cache.ensureCapacity(8);
+    assertThat(cache.capacity(), is(8));
+    assertThat(cache.get("x", true, JAVA), is(sameInstance(regex)));
+    assertThat(cache.stats().missCount(), is(1L));
+    assertThat(cache.stats().hitCount(), is(1L));
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void invalidExpression() {
+    new RegexCache(2).get("(", true, JAVA);
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void invalidExpressionOnLinearEngine() {
+    new RegexCache(2).get("(", true, LINEAR);
+  }
+
+  @Test
+  public void streamsOnLinearEngine() {
+    RegexCache cache = new RegexCache(4);
+    LinearRegex regex = cache.getStreaming("abc", true);
+    assertThat(cache.getStreaming("abc", true), is(sameInstance(regex)));
+    // simple enough for a FastRegex when not streamed
+    assertThat(cache.get("abc", true, LINEAR), is(instanceOf(FastRegex.class)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsStreamingUnsupportedExpression() {
+    new RegexCache(2).getStreaming("(a+)\\1", true);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void emptyExpression() {
+    new RegexCache(2).get("", true, JAVA);
+  }
+}
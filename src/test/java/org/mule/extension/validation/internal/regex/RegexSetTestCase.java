@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.regex;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.shuffle;
+import static java.util.Collections.singletonList;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class RegexSetTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> REGEXES = asList("[A-Z]{3}-\\d{4}", "\\d+", "ab*", "(a)\\1", "[a-z]+", "a(?=b)b",
+                                                     "ORD-\\d+", "\\w+@\\w+\\.com", "(ab|cd)*e?", "x$", ".*");
+
+  private static final List<String> INPUTS = asList("", "ABC-1234", "abc-1234", "123", "a", "abbb", "aa", "ab", "hello",
+                                                    "ORD-42", "me@host.com", "cdab", "x", "x\n", "?!", "ABC", "ord-1");
+
+  @Test
+  public void findsFirstMatchingExpression() {
+    RegexSet set = RegexSet.compile(asList("[0-9]+", "\\d{3}", "[a-z]+"), true);
+    assertThat(set.firstMatch("123"), is(0));
+    assertThat(set.firstMatch("abc"), is(2));
+    assertThat(set.firstMatch("ABC"), is(-1));
+  }
+
+  @Test
+  public void findsFirstMatchingExpressionAcrossEngines() {
+    RegexSet set = RegexSet.compile(asList("[a-z]+", "(a)\\1", "a+"), true);
+    assertThat(set.firstMatch("aa"), is(0));
+
+    set = RegexSet.compile(asList("(a)\\1", "a+"), true);
+    assertThat(set.firstMatch("aa"), is(0));
+    assertThat(set.firstMatch("aaa"), is(1));
+
+    set = RegexSet.compile(asList("a+", "(a)\\1"), true);
+    assertThat(set.firstMatch("aa"), is(0));
+  }
+
+  @Test
+  public void matchesAsPatterns() {
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      List<String> regexes = new ArrayList<>(REGEXES);
+      shuffle(regexes, random);
+      regexes = regexes.subList(0, 1 + random.nextInt(regexes.size()));
+      for (boolean caseSensitive : new boolean[] {true, false}) {
+        RegexSet set = RegexSet.compile(regexes, caseSensitive);
+        for (String input : INPUTS) {
+          assertThat(regexes + " on " + input, set.firstMatch(input), is(firstMatch(regexes, caseSensitive, input)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void cachesSets() {
+    RegexCache cache = new RegexCache(4);
+    RegexSet set = cache.getSet(asList("a", "b"), true);
+    assertThat(cache.getSet(asList("a", "b"), true), is(sameInstance(set)));
+    assertThat(cache.getSet(asList("b", "a"), true), is(not(sameInstance(set))));
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void invalidExpression() {
+    RegexSet.compile(asList("a", "("), true);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void emptyExpression() {
+    RegexSet.compile(singletonList(""), true);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noExpressions() {
+    RegexSet.compile(new ArrayList<>(), true);
+  }
+
+  private static int firstMatch(List<String> regexes, boolean caseSensitive, String input) {
+    for (int i = 0; i < regexes.size(); i++) {
+      if (Pattern.compile(regexes.get(i), caseSensitive ? 0 : CASE_INSENSITIVE).matcher(input).matches()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.time;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class DateTimeFormatterCacheTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void sharesFormatters() {
+    DateTimeFormatter formatter = DateTimeFormatterCache.get("yyyy-MM-dd", Locale.ENGLISH);
+    assertThat(DateTimeFormatterCache.get("yyyy-MM-dd", new Locale("en")), is(sameInstance(formatter)));
+    assertThat(DateTimeFormatterCache.get("yyyy-MM-dd", Locale.FRENCH), is(not(sameInstance(formatter))));
+    assertThat(DateTimeFormatterCache.get("yyyy/MM/dd", Locale.ENGLISH), is(not(sameInstance(formatter))));
+  }
+
+  @Test
+  public void formatsAsUncachedFormatters() {
+    for (String pattern : new String[] {"yyyy-MM-dd", "h:mm a", "EEE, MMM d, ''yy", "EEEE d MMMM uuuu"}) {
+      for (Locale locale : new Locale[] {Locale.ENGLISH, Locale.FRENCH, new Locale("es")}) {
+        DateTimeFormatter cached = DateTimeFormatterCache.get(pattern, locale);
+        assertThat(cached.toString(), is(DateTimeFormatter.ofPattern(pattern).withLocale(locale).toString()));
+        assertThat(cached.getLocale(), is(locale));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsInvalidPattern() {
+    DateTimeFormatterCache.get("yyyy-MM-dd {", Locale.ENGLISH);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void rejectsMissingPattern() {
+    DateTimeFormatterCache.get(null, Locale.ENGLISH);
+  }
+}
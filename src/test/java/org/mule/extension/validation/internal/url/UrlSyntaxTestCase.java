@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.validation.internal.url;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.validation.internal.domain.TopLevelDomains;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class UrlSyntaxTestCase extends AbstractMuleTestCase {
+
+  private static final List<String> WELL_FORMED = asList("http://localhost:8080", "https://www.mulesoft.com/a%20b?c=d#e",
+                                                         "ftp://ftp.is.co.za/rfc/rfc1808.txt", "mailto:John.Doe@example.com",
+                                                         "urn:oasis:names:specification:docbook:dtd:xml:4.1.2",
+                                                         "ldap://[2001:db8::7]/c=GB?objectClass?one", "tel:+1-816-555-1212",
+                                                         "news:comp.infosystems.www.servers.unix", "http://[v1.fe]/",
+                                                         "http://user:pw@host:/?#",
+                                                         "foo://example.com:8042/over?name=ferret#nose", "x:", "a+b-c.d:e",
+                                                         "file:///etc/hosts", "http://h/p?q?r/#f?/");
+
+  private static final List<String> MALFORMED = asList("", "here", "/path", "//host/path", "1http://host", "ht_tp://host",
+                                                       "http://host/a b", "http://host/%2", "http://host/%zz",
+                                                       "http://ho st/", "http://host:8o/", "http://[::1/", "http://[1.2.3.4]/",
+                                                       "http://[fe80::1%25eth0]/", "http://[v1]/", "http://[::1]x/",
+                                                       "http://us[er@host/", "http://host/#a#b", "http://host/\u00e9",
+                                                       "http://host/a\\b", "http://host/{}");
+
+  @Test
+  public void tellsWellFormedUris() {
+    UrlSyntax syntax = new UrlSyntax();
+    for (String url : WELL_FORMED) {
+      assertThat(url, syntax.parse(url), is(true));
+      assertThat(url, syntax.isWellFormed(), is(true));
+    }
+    for (String url : MALFORMED) {
+      assertThat(url, syntax.parse(url), is(false));
+    }
+  }
+
+  @Test
+  public void splitsAuthority() {
+    UrlSyntax syntax = new UrlSyntax();
+    String url = "http://user@www.mulesoft.com:8080/path";
+    syntax.parse(url);
+    assertThat(syntax.hasScheme(), is(true));
+    assertThat(syntax.isSchemeIn(asList("ftp", "HTTP")), is(true));
+    assertThat(syntax.isSchemeIn(asList("https")), is(false));
+    assertThat(syntax.hasUserInfo(), is(true));
+    assertThat(syntax.getPortLength(), is(4));
+    assertThat(url.substring(syntax.getHostStart(), syntax.getHostEnd()), is("www.mulesoft.com"));
+
+    syntax.parse("mailto:someone@mulesoft.com");
+    assertThat(syntax.hasUserInfo(), is(false));
+    assertThat(syntax.getPortLength(), is(-1));
+    assertThat(syntax.getHostStart(), is(-1));
+  }
+
+  @Test
+  public void tellsHostKinds() {
+    UrlSyntax syntax = new UrlSyntax();
+    for (String url : asList("http://127.0.0.1/", "http://[::1]:80", "http://[v7.a:b]", "http://user@10.0.0.1:1")) {
+      syntax.parse(url);
+      assertThat(url, syntax.isHostIp(), is(true));
+      assertThat(url, syntax.isHostDomain(TopLevelDomains.builtIn()), is(false));
+    }
+    for (String url : asList("http://www.mulesoft.com", "http://MULESOFT.COM./", "https://a-b.example.org:443",
+                             "http://xn--bcher-kva.ch")) {
+      syntax.parse(url);
+      assertThat(url, syntax.isHostDomain(TopLevelDomains.builtIn()), is(true));
+      assertThat(url, syntax.isHostIp(), is(false));
+    }
+    for (String url : asList("http://localhost", "http://host.notatld", "http://-a.com", "http://a-.com", "http://a..com",
+                             "http://010.0.0.1", "http://256.1.1.1", "http://a_b.com", "mailto:a@b.com", "http://")) {
+      syntax.parse(url);
+      assertThat(url, syntax.isHostDomain(TopLevelDomains.builtIn()), is(false));
+      assertThat(url, syntax.isHostIp(), is(false));
+    }
+  }
+}